@@ -3,6 +3,62 @@
 set -euo pipefail
 
 SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+TARGET_DIR="${SCRIPT_DIR}/target"
+APP_JAR="${TARGET_DIR}/envio-1.0.0.jar"
+LIB_DIR="${TARGET_DIR}/lib"
+CDS_ARCHIVE="${TARGET_DIR}/envio.jsa"
 
-mvn -f "${SCRIPT_DIR}/pom.xml" clean package
-mvn -f "${SCRIPT_DIR}/pom.xml" exec:java
+MODE="fast"
+FORCE_BUILD=0
+STARTUP_CHECK=0
+for arg in "$@"; do
+    case "${arg}" in
+        --maven) MODE="maven" ;;
+        --rebuild) FORCE_BUILD=1 ;;
+        --startup-check) STARTUP_CHECK=1 ;;
+        *)
+            echo "Uso: $0 [--maven] [--rebuild] [--startup-check]" >&2
+            exit 1
+            ;;
+    esac
+done
+
+if [[ "${MODE}" == "maven" || "${ENVIO_MAVEN:-0}" == "1" ]]; then
+    mvn -f "${SCRIPT_DIR}/pom.xml" clean package
+    mvn -f "${SCRIPT_DIR}/pom.xml" exec:java
+    exit 0
+fi
+
+needs_build() {
+    if [[ "${FORCE_BUILD}" == "1" || ! -f "${APP_JAR}" || ! -d "${LIB_DIR}" ]]; then
+        return 0
+    fi
+    [[ -n "$(find "${SCRIPT_DIR}/src" "${SCRIPT_DIR}/pom.xml" -newer "${APP_JAR}" -print -quit)" ]]
+}
+
+if needs_build; then
+    echo "Compilando envio (cambios detectados en las fuentes)..." >&2
+    mvn -q -f "${SCRIPT_DIR}/pom.xml" -DskipTests clean package
+    rm -f "${CDS_ARCHIVE}"
+fi
+
+CLASSPATH="${APP_JAR}"
+while IFS= read -r jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done < <(find "${LIB_DIR}" -maxdepth 1 -name '*.jar' | sort)
+
+JAVA_OPTS=()
+if [[ -f "${CDS_ARCHIVE}" ]]; then
+    JAVA_OPTS+=("-XX:SharedArchiveFile=${CDS_ARCHIVE}" "-Xshare:auto")
+else
+    echo "Generando archivo AppCDS en ${CDS_ARCHIVE} al cerrar la aplicación..." >&2
+    JAVA_OPTS+=("-XX:ArchiveClassesAtExit=${CDS_ARCHIVE}" "-Xlog:cds*=error")
+fi
+if [[ "${ENVIO_STARTUP_REPORT:-1}" == "1" ]]; then
+    JAVA_OPTS+=("-Denvio.startup.report=true")
+fi
+if [[ "${STARTUP_CHECK}" == "1" ]]; then
+    JAVA_OPTS+=("-Denvio.startup.check=true" "-Denvio.startup.budgetMs=${ENVIO_STARTUP_BUDGET_MS:-1500}")
+fi
+
+exec java "${JAVA_OPTS[@]}" -cp "${CLASSPATH}" cl.prezdev.envio.App
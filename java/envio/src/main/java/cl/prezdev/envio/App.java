@@ -3,6 +3,9 @@ package cl.prezdev.envio;
 import com.formdev.flatlaf.FlatDarculaLaf;
 
 import javax.swing.*;
+import java.awt.Graphics;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.LinkedHashMap;
@@ -17,21 +20,27 @@ public class App {
     private static Language currentLanguage = Language.ES;
 
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(App::createAndShowUI);
+        StartupProfiler.run("edt-watchdog", () -> EdtWatchdog.install(MetricsRegistry.global()));
+        SwingUtilities.invokeLater(() -> StartupProfiler.measure("look-and-feel", FlatDarculaLaf::setup));
+        Settings settings = StartupProfiler.measure("settings-load", SETTINGS_MANAGER::load);
+        SwingUtilities.invokeLater(() -> createAndShowUI(settings));
     }
 
-    private static void createAndShowUI() {
-        FlatDarculaLaf.setup();
-
-        Settings settings = SETTINGS_MANAGER.load();
+    private static void createAndShowUI(Settings settings) {
         currentLanguage = settings.getLanguageEnum();
-        JFrame frame = new JFrame(I18n.app(currentLanguage).windowTitle());
+        JFrame frame = StartupProfiler.measure("frame", () -> new JFrame(I18n.app(currentLanguage).windowTitle()) {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                StartupProfiler.markFirstPaint();
+            }
+        });
         frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
-        HttpClientPanel panel = new HttpClientPanel(settings, App::saveSettings);
+        RequestWorkspace panel = StartupProfiler.measure("panel", () -> new RequestWorkspace(settings, App::saveSettings, EnvironmentManager.nextTo(SETTINGS_MANAGER)));
         frame.setContentPane(panel);
-        frame.setJMenuBar(createMenuBar(panel, frame, settings));
+        StartupProfiler.run("menu", () -> frame.setJMenuBar(createMenuBar(panel, frame, settings)));
         applyWindowSize(frame, settings);
-        panel.applySettings();
+        StartupProfiler.run("apply-settings", panel::applySettings);
         frame.addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
@@ -44,12 +53,12 @@ public class App {
             }
         });
         frame.setLocationRelativeTo(null);
-        frame.setVisible(true);
+        StartupProfiler.run("show", () -> frame.setVisible(true));
         updateScaleMenuSelection(settings.getUiScale());
         updateLanguageMenuSelection(currentLanguage);
     }
 
-    private static JMenuBar createMenuBar(HttpClientPanel panel, JFrame frame, Settings settings) {
+    private static JMenuBar createMenuBar(RequestWorkspace panel, JFrame frame, Settings settings) {
         JMenuBar menuBar = new JMenuBar();
         I18n.AppTexts texts = I18n.app(currentLanguage);
 
@@ -76,6 +85,16 @@ public class App {
             viewMenu.add(item);
         }
 
+        viewMenu.addSeparator();
+        JMenuItem newTab = new JMenuItem(texts.newTab());
+        newTab.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_T, InputEvent.CTRL_DOWN_MASK));
+        newTab.addActionListener(e -> panel.addTab());
+        viewMenu.add(newTab);
+        JMenuItem closeTab = new JMenuItem(texts.closeTab());
+        closeTab.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_W, InputEvent.CTRL_DOWN_MASK));
+        closeTab.addActionListener(e -> panel.closeSelectedTab());
+        viewMenu.add(closeTab);
+
         JMenu settingsMenu = new JMenu(texts.settingsMenu());
         JMenuItem editSettings = new JMenuItem(texts.editSettings());
         editSettings.addActionListener(e -> {
@@ -119,6 +138,15 @@ public class App {
         }
         menuBar.add(samplesMenu);
 
+        JMenu toolsMenu = new JMenu(texts.toolsMenu());
+        JMenuItem batchRun = new JMenuItem(texts.batchRun());
+        batchRun.addActionListener(e -> panel.openBatchDialog());
+        toolsMenu.add(batchRun);
+        JMenuItem capacitySearch = new JMenuItem(texts.capacitySearch());
+        capacitySearch.addActionListener(e -> panel.openCapacityDialog());
+        toolsMenu.add(capacitySearch);
+        menuBar.add(toolsMenu);
+
         return menuBar;
     }
 
@@ -150,7 +178,7 @@ public class App {
         SETTINGS_MANAGER.save(settings);
     }
 
-    private static void changeLanguage(Language language, HttpClientPanel panel, JFrame frame, Settings settings) {
+    private static void changeLanguage(Language language, RequestWorkspace panel, JFrame frame, Settings settings) {
         if (language == null || language == currentLanguage) {
             return;
         }
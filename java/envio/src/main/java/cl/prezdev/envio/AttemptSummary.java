@@ -0,0 +1,20 @@
+package cl.prezdev.envio;
+
+public record AttemptSummary(int attempts, int hedgesSent, int hedgesWon, long wastedNanos) {
+
+    public static AttemptSummary single() {
+        return new AttemptSummary(1, 0, 0, 0);
+    }
+
+    public int retries() {
+        return Math.max(0, attempts - 1);
+    }
+
+    public double wastedMillis() {
+        return wastedNanos / 1_000_000.0;
+    }
+
+    public boolean isTrivial() {
+        return attempts <= 1 && hedgesSent == 0;
+    }
+}
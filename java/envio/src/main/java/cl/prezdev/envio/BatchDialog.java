@@ -0,0 +1,183 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.BatchTexts;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+public class BatchDialog extends JDialog {
+
+    private static final int REFRESH_INTERVAL_MS = 250;
+
+    private final BatchRunner runner;
+    private final Supplier<BatchRunner.Config> configTemplate;
+    private final BatchTexts texts;
+    private final JTextField datasetField = new JTextField(32);
+    private final JTextField outputField = new JTextField(32);
+    private final JSpinner concurrencySpinner = new JSpinner(new SpinnerNumberModel(8, 1, 1024, 1));
+    private final JSpinner rateSpinner = new JSpinner(new SpinnerNumberModel(0.0, 0.0, 100_000.0, 1.0));
+    private final JCheckBox includeBodiesCheckBox = new JCheckBox();
+    private final JProgressBar progressBar = new JProgressBar(0, 1000);
+    private final JLabel progressLabel = new JLabel(" ");
+    private final JLabel statsLabel = new JLabel(" ");
+    private final JLabel resultLabel = new JLabel(" ");
+    private final JButton startButton = new JButton();
+    private final JButton stopButton = new JButton();
+    private final Timer refreshTimer;
+
+    public BatchDialog(Frame owner, HttpClientService httpClientService, JsonFactory jsonFactory,
+                       Supplier<BatchRunner.Config> configTemplate, Language language) {
+        super(owner, I18n.batch(language).dialogTitle(), false);
+        this.runner = new BatchRunner(httpClientService, jsonFactory);
+        this.configTemplate = configTemplate;
+        this.texts = I18n.batch(language);
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout(12, 12));
+        getRootPane().setBorder(new EmptyBorder(12, 12, 12, 12));
+
+        add(new JLabel(texts.hint()), BorderLayout.NORTH);
+        add(createFormPanel(), BorderLayout.CENTER);
+
+        startButton.setText(texts.startButton());
+        startButton.addActionListener(e -> start());
+        stopButton.setText(texts.stopButton());
+        stopButton.setEnabled(false);
+        stopButton.addActionListener(e -> runner.cancel());
+        JButton closeButton = new JButton(texts.closeButton());
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(startButton);
+        buttonPanel.add(stopButton);
+        buttonPanel.add(closeButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    @Override
+    public void dispose() {
+        runner.cancel();
+        refreshTimer.stop();
+        super.dispose();
+    }
+
+    private JPanel createFormPanel() {
+        JPanel panel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.gridy = 0;
+        addRow(panel, gbc, texts.datasetLabel(), datasetField, createBrowseButton(datasetField, false));
+        addRow(panel, gbc, texts.outputLabel(), outputField, createBrowseButton(outputField, true));
+        addRow(panel, gbc, texts.concurrencyLabel(), concurrencySpinner, null);
+        addRow(panel, gbc, texts.rateLabel(), rateSpinner, null);
+
+        includeBodiesCheckBox.setText(texts.includeBodiesCheckbox());
+        gbc.gridx = 1;
+        panel.add(includeBodiesCheckBox, gbc);
+        gbc.gridy++;
+
+        gbc.gridx = 0;
+        gbc.gridwidth = 3;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        progressBar.setStringPainted(true);
+        panel.add(progressBar, gbc);
+        gbc.gridy++;
+        panel.add(progressLabel, gbc);
+        gbc.gridy++;
+        panel.add(statsLabel, gbc);
+        gbc.gridy++;
+        panel.add(resultLabel, gbc);
+        return panel;
+    }
+
+    private void addRow(JPanel panel, GridBagConstraints gbc, String label, JComponent field, JComponent extra) {
+        gbc.gridx = 0;
+        gbc.fill = GridBagConstraints.NONE;
+        gbc.weightx = 0;
+        panel.add(new JLabel(label), gbc);
+        gbc.gridx = 1;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.weightx = 1;
+        panel.add(field, gbc);
+        if (extra != null) {
+            gbc.gridx = 2;
+            gbc.fill = GridBagConstraints.NONE;
+            gbc.weightx = 0;
+            panel.add(extra, gbc);
+        }
+        gbc.gridy++;
+    }
+
+    private JButton createBrowseButton(JTextField target, boolean save) {
+        JButton button = new JButton(texts.browseButton());
+        button.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (!target.getText().isBlank()) {
+                chooser.setSelectedFile(new File(target.getText().trim()));
+            }
+            int option = save ? chooser.showSaveDialog(this) : chooser.showOpenDialog(this);
+            if (option != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            target.setText(chooser.getSelectedFile().getAbsolutePath());
+            if (!save && outputField.getText().isBlank()) {
+                outputField.setText(chooser.getSelectedFile().getAbsolutePath() + ".results.ndjson");
+            }
+        });
+        return button;
+    }
+
+    private void start() {
+        if (datasetField.getText().isBlank() || outputField.getText().isBlank()) {
+            resultLabel.setText(texts.filesRequired());
+            return;
+        }
+        BatchRunner.Config template = configTemplate.get();
+        if (template == null) {
+            return;
+        }
+        BatchRunner.Config config = new BatchRunner.Config(
+                template.method(),
+                template.urlTemplate(),
+                template.bodyFactory(),
+                template.environment(),
+                Path.of(datasetField.getText().trim()),
+                Path.of(outputField.getText().trim()),
+                ((Number) concurrencySpinner.getValue()).intValue(),
+                ((Number) rateSpinner.getValue()).doubleValue(),
+                includeBodiesCheckBox.isSelected()
+        );
+        runner.start(config);
+        resultLabel.setText(" ");
+        startButton.setEnabled(false);
+        stopButton.setEnabled(true);
+        refreshTimer.start();
+    }
+
+    private void refresh() {
+        BatchRunner.Progress progress = runner.progress();
+        progressBar.setValue((int) Math.round(progress.fractionRead() * 1000));
+        progressBar.setString(String.format("%.1f%%", progress.fractionRead() * 100));
+        progressLabel.setText(String.format(texts.progressPattern(), progress.rowsRead(), progress.completed(), progress.inFlight()));
+        statsLabel.setText(String.format(texts.statsPattern(), progress.requestsPerSecond(), progress.errorRate() * 100,
+                progress.errors(), progress.p50Millis(), progress.p95Millis(), progress.p99Millis()));
+        if (!progress.running()) {
+            refreshTimer.stop();
+            startButton.setEnabled(true);
+            stopButton.setEnabled(false);
+            resultLabel.setText(progress.failure() != null
+                    ? String.format(texts.failedPattern(), progress.failure())
+                    : String.format(texts.finishedPattern(), progress.elapsedSeconds()));
+        }
+    }
+}
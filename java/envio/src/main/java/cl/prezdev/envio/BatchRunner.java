@@ -0,0 +1,276 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class BatchRunner {
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int FLUSH_EVERY = 256;
+
+    @FunctionalInterface
+    public interface BodyFactory {
+        RequestBody create(Function<String, String> variables) throws IOException;
+    }
+
+    public record Config(
+            HttpMethod method,
+            String urlTemplate,
+            BodyFactory bodyFactory,
+            Function<String, String> environment,
+            Path dataset,
+            Path output,
+            int concurrency,
+            double requestsPerSecondPerHost,
+            boolean includeBodies
+    ) {
+    }
+
+    public record Progress(
+            long rowsRead,
+            long completed,
+            long errors,
+            int inFlight,
+            long datasetBytesRead,
+            long datasetBytes,
+            double elapsedSeconds,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            boolean running,
+            String failure
+    ) {
+        public double requestsPerSecond() {
+            return elapsedSeconds > 0 ? completed / elapsedSeconds : 0;
+        }
+
+        public double errorRate() {
+            return completed > 0 ? (double) errors / completed : 0;
+        }
+
+        public double fractionRead() {
+            return datasetBytes > 0 ? Math.min(1.0, (double) datasetBytesRead / datasetBytes) : 0;
+        }
+    }
+
+    private final HttpClientService httpClientService;
+    private final JsonFactory jsonFactory;
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final MetricsRegistry.Timer latencyTimer = new MetricsRegistry().timer("batch.latency");
+    private final MetricsRegistry.Counter batchRowsCounter;
+    private volatile DatasetReader reader;
+    private volatile boolean running;
+    private volatile boolean cancelled;
+    private volatile String failure;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private Thread coordinator;
+
+    public BatchRunner(HttpClientService httpClientService, JsonFactory jsonFactory) {
+        this.httpClientService = httpClientService;
+        this.jsonFactory = jsonFactory;
+        this.batchRowsCounter = MetricsRegistry.global().counter("batch.rows", "");
+    }
+
+    public synchronized void start(Config config) {
+        if (running) {
+            throw new IllegalStateException("Ya hay un lote en ejecución");
+        }
+        rowsRead.reset();
+        completed.reset();
+        errors.reset();
+        latencyTimer.reset();
+        failure = null;
+        cancelled = false;
+        running = true;
+        startNanos = System.nanoTime();
+        endNanos = 0;
+        coordinator = new Thread(() -> run(config), "envio-batch");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    public void cancel() {
+        cancelled = true;
+        Thread thread = coordinator;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Progress progress() {
+        DatasetReader current = reader;
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return new Progress(
+                rowsRead.sum(),
+                completed.sum(),
+                errors.sum(),
+                inFlight.get(),
+                current != null ? current.bytesRead() : 0,
+                current != null ? current.totalBytes() : 0,
+                startNanos != 0 ? (end - startNanos) / 1_000_000_000.0 : 0,
+                latencyTimer.percentile(50) / 1_000_000.0,
+                latencyTimer.percentile(95) / 1_000_000.0,
+                latencyTimer.percentile(99) / 1_000_000.0,
+                running,
+                failure
+        );
+    }
+
+    private void run(Config config) {
+        int concurrency = Math.max(1, config.concurrency());
+        Semaphore permits = new Semaphore(concurrency);
+        HostRateLimiter rateLimiter = new HostRateLimiter(config.requestsPerSecondPerHost(), 1);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "envio-batch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (DatasetReader dataset = DatasetReader.open(config.dataset(), jsonFactory);
+             ResultWriter writer = new ResultWriter(config.output(), jsonFactory)) {
+            reader = dataset;
+            try {
+                submitRows(config, dataset, writer, pool, permits, rateLimiter);
+            } finally {
+                if (cancelled) {
+                    // Rows still queued never run, so their finally never hands back the permit taken for them.
+                    List<Runnable> dropped = pool.shutdownNow();
+                    inFlight.addAndGet(-dropped.size());
+                    permits.release(dropped.size());
+                }
+                permits.acquireUninterruptibly(concurrency);
+            }
+        } catch (IOException | RuntimeException ex) {
+            failure = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+        } finally {
+            pool.shutdownNow();
+            endNanos = System.nanoTime();
+            running = false;
+        }
+    }
+
+    private void submitRows(Config config, DatasetReader dataset, ResultWriter writer, ExecutorService pool,
+                            Semaphore permits, HostRateLimiter rateLimiter) throws IOException {
+        Template urlTemplate = Template.compile(config.urlTemplate());
+        long index = 0;
+        Map<String, String> row;
+        while (!cancelled && (row = dataset.next()) != null) {
+            long rowIndex = index++;
+            rowsRead.increment();
+            Map<String, String> values = row;
+            Function<String, String> variables = name -> {
+                String value = values.get(name);
+                return value != null ? value : config.environment().apply(name);
+            };
+            String url = urlTemplate.render(variables);
+            RequestBody body = config.bodyFactory().create(variables);
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                break;
+            }
+            inFlight.incrementAndGet();
+            pool.execute(() -> {
+                try {
+                    acquireRate(rateLimiter, url);
+                    ExchangeSummary summary = httpClientService.exchange(config.method(), url, body,
+                            config.includeBodies() ? MAX_BODY_BYTES : 0, HttpClientService.ExchangeMode.BATCH);
+                    latencyTimer.record(summary.latencyNanos());
+                    if (summary.isError()) {
+                        errors.increment();
+                    }
+                    writer.write(rowIndex, url, summary);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException ex) {
+                    failure = ex.getMessage();
+                    cancelled = true;
+                } finally {
+                    completed.increment();
+                    batchRowsCounter.increment();
+                    inFlight.decrementAndGet();
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    private void acquireRate(HostRateLimiter rateLimiter, String url) throws InterruptedException {
+        if (rateLimiter.isUnlimited()) {
+            return;
+        }
+        try {
+            rateLimiter.acquire(URI.create(url));
+        } catch (IllegalArgumentException ex) {
+            // The exchange reports the malformed URL for this row.
+        }
+    }
+
+    private static final class ResultWriter implements Closeable {
+        private final JsonGenerator generator;
+        private long pending;
+
+        ResultWriter(Path output, JsonFactory jsonFactory) throws IOException {
+            Path directory = output.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.generator = jsonFactory.createGenerator(new BufferedOutputStream(Files.newOutputStream(output), 64 * 1024), JsonEncoding.UTF8);
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        synchronized void write(long row, String url, ExchangeSummary summary) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("row", row);
+            generator.writeStringField("url", url);
+            generator.writeNumberField("status", summary.statusCode());
+            generator.writeNumberField("latencyMs", Math.round(summary.latencyNanos() / 10_000.0) / 100.0);
+            generator.writeNumberField("bytes", summary.bytesReceived());
+            if (summary.attempts() > 1) {
+                generator.writeNumberField("attempts", summary.attempts());
+            }
+            if (summary.errorMessage() != null) {
+                generator.writeStringField("error", summary.errorMessage());
+            }
+            if (summary.body() != null) {
+                generator.writeStringField("body", summary.body());
+            }
+            generator.writeEndObject();
+            if (++pending >= FLUSH_EVERY) {
+                generator.flush();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+        }
+    }
+}
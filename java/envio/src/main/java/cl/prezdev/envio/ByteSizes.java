@@ -0,0 +1,24 @@
+package cl.prezdev.envio;
+
+import java.util.Locale;
+
+public final class ByteSizes {
+
+    private static final String[] UNITS = {"B", "KB", "MB", "GB", "TB"};
+
+    private ByteSizes() {
+    }
+
+    public static String format(double bytes) {
+        double value = Math.max(0, bytes);
+        int unit = 0;
+        while (value >= 1024 && unit < UNITS.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        if (unit == 0) {
+            return String.format(Locale.ROOT, "%.0f %s", value, UNITS[unit]);
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, UNITS[unit]);
+    }
+}
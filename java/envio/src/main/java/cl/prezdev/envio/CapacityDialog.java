@@ -0,0 +1,243 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.CapacityTexts;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class CapacityDialog extends JDialog {
+
+    private static final int REFRESH_INTERVAL_MS = 250;
+
+    private final CapacitySearch search;
+    private final Supplier<BatchRunner.Config> configTemplate;
+    private final CapacityTexts texts;
+    private final JSpinner startSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 1024, 1));
+    private final JSpinner maxSpinner = new JSpinner(new SpinnerNumberModel(64, 1, 1024, 1));
+    private final JSpinner increaseSpinner = new JSpinner(new SpinnerNumberModel(2, 1, 256, 1));
+    private final JSpinner decreaseSpinner = new JSpinner(new SpinnerNumberModel(0.5, 0.1, 0.95, 0.05));
+    private final JSpinner stepSecondsSpinner = new JSpinner(new SpinnerNumberModel(5.0, 0.5, 600.0, 0.5));
+    private final JSpinner sloSpinner = new JSpinner(new SpinnerNumberModel(500.0, 1.0, 600_000.0, 10.0));
+    private final JSpinner errorRateSpinner = new JSpinner(new SpinnerNumberModel(1.0, 0.0, 100.0, 0.5));
+    private final StepTableModel tableModel = new StepTableModel();
+    private final JProgressBar progressBar = new JProgressBar(0, 1000);
+    private final JLabel resultLabel = new JLabel(" ");
+    private final JButton startButton = new JButton();
+    private final JButton stopButton = new JButton();
+    private final JButton exportButton = new JButton();
+    private final Timer refreshTimer;
+
+    public CapacityDialog(Frame owner, HttpClientService httpClientService, Supplier<BatchRunner.Config> configTemplate,
+                          Language language) {
+        super(owner, I18n.capacity(language).dialogTitle(), false);
+        this.search = new CapacitySearch(httpClientService);
+        this.configTemplate = configTemplate;
+        this.texts = I18n.capacity(language);
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout(12, 12));
+        getRootPane().setBorder(new EmptyBorder(12, 12, 12, 12));
+
+        add(new JLabel(texts.hint()), BorderLayout.NORTH);
+        JPanel center = new JPanel(new BorderLayout(8, 8));
+        center.add(createFormPanel(), BorderLayout.NORTH);
+        JTable table = new JTable(tableModel);
+        table.setFillsViewportHeight(true);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(new Dimension(640, 220));
+        center.add(scrollPane, BorderLayout.CENTER);
+        JPanel statusPanel = new JPanel(new GridLayout(0, 1, 0, 4));
+        progressBar.setStringPainted(true);
+        statusPanel.add(progressBar);
+        statusPanel.add(resultLabel);
+        center.add(statusPanel, BorderLayout.SOUTH);
+        add(center, BorderLayout.CENTER);
+
+        startButton.setText(texts.startButton());
+        startButton.addActionListener(e -> start());
+        stopButton.setText(texts.stopButton());
+        stopButton.setEnabled(false);
+        stopButton.addActionListener(e -> search.cancel());
+        exportButton.setText(texts.exportButton());
+        exportButton.setEnabled(false);
+        exportButton.addActionListener(e -> exportCsv());
+        JButton closeButton = new JButton(texts.closeButton());
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(startButton);
+        buttonPanel.add(stopButton);
+        buttonPanel.add(exportButton);
+        buttonPanel.add(closeButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    @Override
+    public void dispose() {
+        search.cancel();
+        refreshTimer.stop();
+        super.dispose();
+    }
+
+    private JPanel createFormPanel() {
+        JPanel panel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.gridy = 0;
+        addPair(panel, gbc, 0, texts.startConcurrencyLabel(), startSpinner);
+        addPair(panel, gbc, 2, texts.maxConcurrencyLabel(), maxSpinner);
+        gbc.gridy++;
+        addPair(panel, gbc, 0, texts.increaseLabel(), increaseSpinner);
+        addPair(panel, gbc, 2, texts.decreaseLabel(), decreaseSpinner);
+        gbc.gridy++;
+        addPair(panel, gbc, 0, texts.stepSecondsLabel(), stepSecondsSpinner);
+        addPair(panel, gbc, 2, texts.sloP99Label(), sloSpinner);
+        gbc.gridy++;
+        addPair(panel, gbc, 0, texts.maxErrorRateLabel(), errorRateSpinner);
+        return panel;
+    }
+
+    private void addPair(JPanel panel, GridBagConstraints gbc, int column, String label, JComponent field) {
+        gbc.gridx = column;
+        panel.add(new JLabel(label), gbc);
+        gbc.gridx = column + 1;
+        panel.add(field, gbc);
+    }
+
+    private void start() {
+        BatchRunner.Config template = configTemplate.get();
+        if (template == null) {
+            return;
+        }
+        CapacitySearch.Config config = new CapacitySearch.Config(
+                template.method(),
+                template.urlTemplate(),
+                template.bodyFactory(),
+                template.environment(),
+                ((Number) startSpinner.getValue()).intValue(),
+                ((Number) maxSpinner.getValue()).intValue(),
+                ((Number) increaseSpinner.getValue()).intValue(),
+                ((Number) decreaseSpinner.getValue()).doubleValue(),
+                Math.round(((Number) stepSecondsSpinner.getValue()).doubleValue() * 1000),
+                ((Number) sloSpinner.getValue()).doubleValue(),
+                ((Number) errorRateSpinner.getValue()).doubleValue() / 100.0
+        );
+        search.start(config);
+        tableModel.setSteps(List.of());
+        resultLabel.setText(" ");
+        startButton.setEnabled(false);
+        stopButton.setEnabled(true);
+        exportButton.setEnabled(false);
+        refreshTimer.start();
+    }
+
+    private void refresh() {
+        CapacitySearch.Progress progress = search.progress();
+        tableModel.setSteps(progress.steps());
+        progressBar.setValue((int) Math.round(progress.stepFraction() * 1000));
+        progressBar.setString(String.format(texts.progressPattern(), progress.steps().size() + 1,
+                progress.concurrency(), progress.stepRequests()));
+        if (progress.running()) {
+            return;
+        }
+        refreshTimer.stop();
+        startButton.setEnabled(true);
+        stopButton.setEnabled(false);
+        exportButton.setEnabled(!progress.steps().isEmpty());
+        progressBar.setValue(0);
+        progressBar.setString("");
+        CapacitySearch.Step knee = progress.knee();
+        if (progress.failure() != null) {
+            resultLabel.setText(String.format(texts.failedPattern(), progress.failure()));
+        } else if (knee != null) {
+            resultLabel.setText(String.format(texts.kneePattern(), knee.concurrency(), knee.requestsPerSecond(), knee.p99Millis()));
+        } else {
+            resultLabel.setText(texts.noKnee());
+        }
+    }
+
+    private void exportCsv() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("capacity.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path target = chooser.getSelectedFile().toPath();
+        try {
+            CapacitySearch.writeCsv(search.progress().steps(), target);
+            resultLabel.setText(String.format(texts.exportedPattern(), target));
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this,
+                    String.format(texts.failedPattern(), ex.getMessage()),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private class StepTableModel extends AbstractTableModel {
+        private List<CapacitySearch.Step> steps = List.of();
+
+        void setSteps(List<CapacitySearch.Step> steps) {
+            if (steps.size() == this.steps.size()) {
+                return;
+            }
+            this.steps = steps;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return steps.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return texts.columns().size();
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return texts.columns().get(column);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return switch (columnIndex) {
+                case 0, 1 -> Integer.class;
+                case 7 -> String.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            CapacitySearch.Step step = steps.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> step.index();
+                case 1 -> step.concurrency();
+                case 2 -> round(step.requestsPerSecond());
+                case 3 -> round(step.p50Millis());
+                case 4 -> round(step.p95Millis());
+                case 5 -> round(step.p99Millis());
+                case 6 -> round(step.errorRate() * 100);
+                default -> step.withinSlo() ? "✓" : "✗";
+            };
+        }
+
+        private double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
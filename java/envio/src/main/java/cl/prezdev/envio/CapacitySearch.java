@@ -0,0 +1,247 @@
+package cl.prezdev.envio;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class CapacitySearch {
+
+    public record Config(
+            HttpMethod method,
+            String urlTemplate,
+            BatchRunner.BodyFactory bodyFactory,
+            Function<String, String> environment,
+            int startConcurrency,
+            int maxConcurrency,
+            int additiveIncrease,
+            double decreaseFactor,
+            long stepMillis,
+            double sloP99Millis,
+            double maxErrorRate
+    ) {
+    }
+
+    public record Step(
+            int index,
+            int concurrency,
+            long requests,
+            long errors,
+            double seconds,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            boolean withinSlo
+    ) {
+        public double requestsPerSecond() {
+            return seconds > 0 ? requests / seconds : 0;
+        }
+
+        public double errorRate() {
+            return requests > 0 ? (double) errors / requests : 0;
+        }
+    }
+
+    public record Progress(
+            List<Step> steps,
+            int concurrency,
+            long stepRequests,
+            double stepFraction,
+            boolean running,
+            String failure
+    ) {
+        public Step knee() {
+            Step best = null;
+            for (Step step : steps) {
+                if (step.withinSlo() && (best == null || step.requestsPerSecond() > best.requestsPerSecond())) {
+                    best = step;
+                }
+            }
+            return best;
+        }
+    }
+
+    private final HttpClientService httpClientService;
+    private final List<Step> steps = new ArrayList<>();
+    private final LongAdder stepRequests = new LongAdder();
+    private volatile int concurrency;
+    private volatile long stepStartNanos;
+    private volatile long stepNanos;
+    private volatile boolean running;
+    private volatile boolean cancelled;
+    private volatile String failure;
+    private Thread coordinator;
+
+    public CapacitySearch(HttpClientService httpClientService) {
+        this.httpClientService = httpClientService;
+    }
+
+    public synchronized void start(Config config) {
+        if (running) {
+            throw new IllegalStateException("Ya hay una búsqueda de capacidad en ejecución");
+        }
+        synchronized (steps) {
+            steps.clear();
+        }
+        failure = null;
+        cancelled = false;
+        running = true;
+        coordinator = new Thread(() -> run(config), "envio-capacity");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    public void cancel() {
+        cancelled = true;
+        Thread thread = coordinator;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Progress progress() {
+        List<Step> snapshot;
+        synchronized (steps) {
+            snapshot = List.copyOf(steps);
+        }
+        long elapsed = System.nanoTime() - stepStartNanos;
+        double fraction = running && stepNanos > 0 ? Math.min(1.0, (double) elapsed / stepNanos) : 0;
+        return new Progress(snapshot, concurrency, stepRequests.sum(), fraction, running, failure);
+    }
+
+    public static void writeCsv(List<Step> steps, Path output) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("step,concurrency,requests,errors,seconds,requests_per_second,error_rate,p50_ms,p95_ms,p99_ms,within_slo");
+            writer.newLine();
+            for (Step step : steps) {
+                writer.write(String.format(Locale.ROOT, "%d,%d,%d,%d,%.3f,%.2f,%.4f,%.2f,%.2f,%.2f,%b",
+                        step.index(), step.concurrency(), step.requests(), step.errors(), step.seconds(),
+                        step.requestsPerSecond(), step.errorRate(), step.p50Millis(), step.p95Millis(), step.p99Millis(),
+                        step.withinSlo()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void run(Config config) {
+        // Not clamped to the global concurrency limit: capacity exchanges skip it, the worker count is the variable.
+        int maxConcurrency = Math.max(1, config.maxConcurrency());
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "envio-capacity-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            String url = Template.compile(config.urlTemplate()).render(config.environment());
+            RequestBody body = config.bodyFactory().create(config.environment());
+            int current = Math.max(1, Math.min(config.startConcurrency(), maxConcurrency));
+            boolean decreased = false;
+            while (!cancelled) {
+                Step step = runStep(config, pool, url, body, current);
+                if (step == null) {
+                    break;
+                }
+                synchronized (steps) {
+                    steps.add(step);
+                }
+                if (step.withinSlo()) {
+                    if (decreased || current >= maxConcurrency) {
+                        break;
+                    }
+                    current = Math.min(maxConcurrency, current + Math.max(1, config.additiveIncrease()));
+                    continue;
+                }
+                // One multiplicative back-off to confirm the knee, then stop.
+                int lower = Math.max(1, (int) Math.floor(current * config.decreaseFactor()));
+                if (decreased || lower >= current || alreadyMeasured(lower)) {
+                    break;
+                }
+                decreased = true;
+                current = lower;
+            }
+        } catch (IOException | RuntimeException ex) {
+            failure = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+        } finally {
+            pool.shutdownNow();
+            running = false;
+        }
+    }
+
+    private boolean alreadyMeasured(int concurrency) {
+        synchronized (steps) {
+            return steps.stream().anyMatch(step -> step.concurrency() == concurrency && step.withinSlo());
+        }
+    }
+
+    private Step runStep(Config config, ExecutorService pool, String url, RequestBody body, int workers) {
+        MetricsRegistry.Timer latency = new MetricsRegistry().timer("capacity.latency");
+        LongAdder errors = new LongAdder();
+        stepRequests.reset();
+        concurrency = workers;
+        stepNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(100, config.stepMillis()));
+        long start = System.nanoTime();
+        stepStartNanos = start;
+        long deadline = start + stepNanos;
+        // New connections and cold server paths land in the first tenth of the step; they are run but not measured.
+        long warmupEnd = start + stepNanos / 10;
+        LongAdder measured = new LongAdder();
+        CountDownLatch done = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            pool.execute(() -> {
+                try {
+                    long requestStart;
+                    while (!cancelled && (requestStart = System.nanoTime()) < deadline) {
+                        ExchangeSummary summary = httpClientService.exchange(config.method(), url, body, 0,
+                                HttpClientService.ExchangeMode.CAPACITY);
+                        stepRequests.increment();
+                        if (requestStart < warmupEnd) {
+                            continue;
+                        }
+                        latency.record(summary.latencyNanos());
+                        measured.increment();
+                        if (summary.isError()) {
+                            errors.increment();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException ex) {
+            return null;
+        }
+        if (cancelled) {
+            return null;
+        }
+        double seconds = (System.nanoTime() - warmupEnd) / 1_000_000_000.0;
+        long requests = measured.sum();
+        double p99 = latency.percentile(99) / 1_000_000.0;
+        double errorRate = requests > 0 ? (double) errors.sum() / requests : 0;
+        boolean withinSlo = requests > 0 && p99 <= config.sloP99Millis() && errorRate <= config.maxErrorRate();
+        int index;
+        synchronized (steps) {
+            index = steps.size() + 1;
+        }
+        return new Step(index, workers, requests, errors.sum(), seconds, latency.percentile(50) / 1_000_000.0,
+                latency.percentile(95) / 1_000_000.0, p99, withinSlo);
+    }
+}
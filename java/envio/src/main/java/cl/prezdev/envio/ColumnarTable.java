@@ -0,0 +1,414 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Rows of a JSON array of objects stored column by column: integers and decimals in primitive arrays, everything
+// else as codes into a per-column dictionary. Only the first array found (the root, or a top-level field) is read.
+public final class ColumnarTable {
+
+    public static final int MAX_ROWS = 1_000_000;
+    public static final int MAX_COLUMNS = 256;
+    private static final int MAX_NESTED_CHARS = 200;
+    private static final String SCALAR_COLUMN = "(value)";
+
+    public enum Type {
+        LONG,
+        DOUBLE,
+        TEXT
+    }
+
+    public interface IntComparator {
+        int compare(int left, int right);
+    }
+
+    private final String arrayName;
+    private final List<Column> columns;
+    private final int rowCount;
+    private final boolean truncated;
+
+    private ColumnarTable(String arrayName, List<Column> columns, int rowCount, boolean truncated) {
+        this.arrayName = arrayName;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.truncated = truncated;
+    }
+
+    public static ColumnarTable read(JsonFactory factory, JsonQuery.Source source) throws IOException {
+        try (JsonParser parser = source.open(factory)) {
+            JsonToken token = parser.nextToken();
+            String arrayName = null;
+            if (token == JsonToken.START_OBJECT) {
+                token = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        arrayName = name;
+                        token = JsonToken.START_ARRAY;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("La respuesta no contiene un arreglo de objetos");
+            }
+            return readRows(factory, parser, arrayName);
+        }
+    }
+
+    private static ColumnarTable readRows(JsonFactory factory, JsonParser parser, String arrayName) throws IOException {
+        Map<String, Column> columns = new LinkedHashMap<>();
+        int rows = 0;
+        boolean truncated = false;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (rows >= MAX_ROWS) {
+                truncated = true;
+                break;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                Column column = columns.computeIfAbsent(SCALAR_COLUMN, Column::new);
+                column.set(rows, factory, parser);
+                rows++;
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                Column column = columns.get(name);
+                if (column == null) {
+                    if (columns.size() >= MAX_COLUMNS) {
+                        truncated = true;
+                        parser.skipChildren();
+                        continue;
+                    }
+                    column = new Column(name);
+                    columns.put(name, column);
+                }
+                column.set(rows, factory, parser);
+            }
+            rows++;
+        }
+        List<Column> result = new ArrayList<>(columns.values());
+        for (Column column : result) {
+            column.finish(rows);
+        }
+        return new ColumnarTable(arrayName, List.copyOf(result), rows, truncated);
+    }
+
+    public String arrayName() {
+        return arrayName;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int columnCount() {
+        return columns.size();
+    }
+
+    public boolean truncated() {
+        return truncated;
+    }
+
+    public String columnName(int column) {
+        return columns.get(column).name;
+    }
+
+    public Type columnType(int column) {
+        return columns.get(column).type;
+    }
+
+    public Object value(int row, int column) {
+        return columns.get(column).value(row);
+    }
+
+    public long estimatedBytes() {
+        long total = 0;
+        for (Column column : columns) {
+            total += column.estimatedBytes();
+        }
+        return total;
+    }
+
+    // Nulls sort last in both directions.
+    public IntComparator comparator(int column, boolean ascending) {
+        Column source = columns.get(column);
+        int direction = ascending ? 1 : -1;
+        IntComparator values = switch (source.type) {
+            case LONG -> (left, right) -> Long.compare(source.longs[left], source.longs[right]);
+            case DOUBLE -> (left, right) -> Double.compare(source.doubles[left], source.doubles[right]);
+            case TEXT -> {
+                int[] ranks = source.dictionaryRanks();
+                yield (left, right) -> Integer.compare(ranks[source.codes[left]], ranks[source.codes[right]]);
+            }
+        };
+        return (left, right) -> {
+            boolean leftNull = source.nulls.get(left);
+            boolean rightNull = source.nulls.get(right);
+            if (leftNull || rightNull) {
+                return leftNull == rightNull ? 0 : leftNull ? 1 : -1;
+            }
+            return direction * values.compare(left, right);
+        };
+    }
+
+    // Text columns are matched once per dictionary entry instead of once per row.
+    public int[] filter(String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        BitSet matches = new BitSet(rowCount);
+        for (Column column : columns) {
+            if (Thread.currentThread().isInterrupted()) {
+                return new int[0];
+            }
+            column.match(needle, matches);
+        }
+        int[] rows = new int[matches.cardinality()];
+        int index = 0;
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            rows[index++] = row;
+        }
+        return rows;
+    }
+
+    public static void sort(int[] rows, IntComparator comparator) {
+        int[] buffer = new int[rows.length];
+        mergeSort(rows, buffer, 0, rows.length, comparator);
+    }
+
+    private static void mergeSort(int[] rows, int[] buffer, int from, int to, IntComparator comparator) {
+        if (to - from < 16) {
+            for (int i = from + 1; i < to; i++) {
+                int value = rows[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(rows[j], value) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = value;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, middle, comparator);
+        mergeSort(rows, buffer, middle, to, comparator);
+        if (comparator.compare(rows[middle - 1], rows[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && comparator.compare(buffer[left], buffer[right]) <= 0) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static final class Column {
+        private final String name;
+        private Type type = Type.LONG;
+        private long[] longs = new long[16];
+        private double[] doubles;
+        private int[] codes;
+        private final ArrayList<String> dictionary = new ArrayList<>();
+        // Only needed to encode while rows are read; for ID-like columns it outweighs the codes themselves.
+        private Map<String, Integer> dictionaryCodes = new HashMap<>();
+        // Rows never written stay null, so columns that appear late or sparsely need no backfill.
+        private final BitSet present = new BitSet();
+        private BitSet nulls;
+
+        private Column(String name) {
+            this.name = name;
+        }
+
+        void set(int row, JsonFactory factory, JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            ensureCapacity(row + 1);
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                switch (type) {
+                    case LONG -> longs[row] = parser.getLongValue();
+                    case DOUBLE -> doubles[row] = parser.getLongValue();
+                    case TEXT -> codes[row] = encode(parser.getText());
+                }
+            } else if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                if (type == Type.LONG) {
+                    widenToDouble();
+                }
+                if (type == Type.DOUBLE) {
+                    doubles[row] = parser.getDoubleValue();
+                } else {
+                    codes[row] = encode(parser.getText());
+                }
+            } else {
+                if (type != Type.TEXT) {
+                    widenToText();
+                }
+                codes[row] = encode(token.isStructStart() ? compact(factory, parser) : parser.getText());
+            }
+            present.set(row);
+        }
+
+        void finish(int rows) {
+            nulls = new BitSet(rows);
+            nulls.set(0, rows);
+            nulls.andNot(present);
+            ensureCapacity(rows);
+            switch (type) {
+                case LONG -> longs = Arrays.copyOf(longs, rows);
+                case DOUBLE -> doubles = Arrays.copyOf(doubles, rows);
+                case TEXT -> codes = Arrays.copyOf(codes, rows);
+            }
+            dictionaryCodes = null;
+            dictionary.trimToSize();
+        }
+
+        Object value(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return switch (type) {
+                case LONG -> longs[row];
+                case DOUBLE -> doubles[row];
+                case TEXT -> dictionary.get(codes[row]);
+            };
+        }
+
+        long estimatedBytes() {
+            long cells = switch (type) {
+                case LONG -> (long) longs.length * Long.BYTES;
+                case DOUBLE -> (long) doubles.length * Double.BYTES;
+                case TEXT -> (long) codes.length * Integer.BYTES;
+            };
+            long strings = 0;
+            for (String value : dictionary) {
+                strings += 48 + value.length();
+            }
+            // A HashMap node, its table slot and the boxed code, per entry.
+            long codeMap = dictionaryCodes != null ? 56L * dictionaryCodes.size() : 0;
+            return cells + strings + codeMap + (nulls != null ? nulls.size() / 8 : present.size() / 8);
+        }
+
+        int[] dictionaryRanks() {
+            Integer[] order = new Integer[dictionary.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> dictionary.get(left).compareToIgnoreCase(dictionary.get(right)));
+            int[] ranks = new int[order.length];
+            for (int rank = 0; rank < order.length; rank++) {
+                ranks[order[rank]] = rank;
+            }
+            return ranks;
+        }
+
+        void match(String needle, BitSet matches) {
+            if (type == Type.TEXT) {
+                BitSet matchingCodes = new BitSet(dictionary.size());
+                for (int code = 0; code < dictionary.size(); code++) {
+                    if (dictionary.get(code).toLowerCase(Locale.ROOT).contains(needle)) {
+                        matchingCodes.set(code);
+                    }
+                }
+                if (matchingCodes.isEmpty()) {
+                    return;
+                }
+                for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                    if (matchingCodes.get(codes[row])) {
+                        matches.set(row);
+                    }
+                }
+                return;
+            }
+            // Numbers match on equality so a filter never has to turn every cell into a string.
+            double target;
+            try {
+                target = Double.parseDouble(needle);
+            } catch (NumberFormatException ex) {
+                return;
+            }
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                double value = type == Type.LONG ? longs[row] : doubles[row];
+                if (value == target) {
+                    matches.set(row);
+                }
+            }
+        }
+
+        private int encode(String value) {
+            Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryCodes.put(value, code);
+            }
+            return code;
+        }
+
+        private void ensureCapacity(int rows) {
+            int capacity = switch (type) {
+                case LONG -> longs.length;
+                case DOUBLE -> doubles.length;
+                case TEXT -> codes.length;
+            };
+            if (rows <= capacity) {
+                return;
+            }
+            int grown = Math.max(rows, capacity + (capacity >> 1));
+            switch (type) {
+                case LONG -> longs = Arrays.copyOf(longs, grown);
+                case DOUBLE -> doubles = Arrays.copyOf(doubles, grown);
+                case TEXT -> codes = Arrays.copyOf(codes, grown);
+            }
+        }
+
+        private void widenToDouble() {
+            doubles = new double[longs.length];
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                doubles[row] = longs[row];
+            }
+            longs = null;
+            type = Type.DOUBLE;
+        }
+
+        private void widenToText() {
+            int capacity = type == Type.LONG ? longs.length : doubles.length;
+            codes = new int[capacity];
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                codes[row] = encode(type == Type.LONG ? Long.toString(longs[row]) : Double.toString(doubles[row]));
+            }
+            longs = null;
+            doubles = null;
+            type = Type.TEXT;
+        }
+
+        private static String compact(JsonFactory factory, JsonParser parser) throws IOException {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = factory.createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            String text = writer.toString();
+            return text.length() > MAX_NESTED_CHARS ? text.substring(0, MAX_NESTED_CHARS) + "…" : text;
+        }
+    }
+}
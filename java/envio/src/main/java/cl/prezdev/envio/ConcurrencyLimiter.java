@@ -0,0 +1,84 @@
+package cl.prezdev.envio;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public final class ConcurrencyLimiter {
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private volatile int limit;
+
+    public ConcurrencyLimiter(int limit) {
+        setLimit(limit);
+    }
+
+    public void setLimit(int limit) {
+        this.limit = Math.max(0, limit);
+        waiters.forEach(LockSupport::unpark);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public boolean isUnlimited() {
+        return limit == 0;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            int max = limit;
+            if (max > 0 && current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void acquire() throws InterruptedException {
+        if (tryAcquire()) {
+            return;
+        }
+        Thread self = Thread.currentThread();
+        waiting.incrementAndGet();
+        waiters.add(self);
+        try {
+            // The bounded park covers a release that slips in between the failed CAS and the park.
+            while (!tryAcquire()) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiters.remove(self);
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+        Thread next = waiters.peek();
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public abstract class DatasetReader implements Closeable {
+
+    private final CapturingInputStream input;
+    private final long totalBytes;
+
+    protected DatasetReader(Path file) throws IOException {
+        this.totalBytes = Files.size(file);
+        this.input = new CapturingInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024), OutputStream.nullOutputStream());
+    }
+
+    public static DatasetReader open(Path file, JsonFactory jsonFactory) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return new JsonDatasetReader(file, jsonFactory);
+        }
+        return new CsvDatasetReader(file);
+    }
+
+    public abstract Map<String, String> next() throws IOException;
+
+    public long bytesRead() {
+        return input.getBytesRead();
+    }
+
+    public long totalBytes() {
+        return totalBytes;
+    }
+
+    protected InputStream input() {
+        return input;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private static final class CsvDatasetReader extends DatasetReader {
+        private final BufferedReader reader;
+        private final StringBuilder field = new StringBuilder();
+        private List<String> header;
+
+        CsvDatasetReader(Path file) throws IOException {
+            super(file);
+            this.reader = new BufferedReader(new InputStreamReader(input(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (header == null) {
+                header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                    header.set(0, header.get(0).substring(1));
+                }
+            }
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+            Map<String, String> row = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                row.put(header.get(i), i < values.size() ? values.get(i) : "");
+            }
+            return row;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int current = reader.read();
+            if (current < 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            boolean quoted = false;
+            field.setLength(0);
+            while (current >= 0) {
+                char c = (char) current;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following >= 0) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+                current = reader.read();
+            }
+            values.add(field.toString());
+            return values;
+        }
+    }
+
+    private static final class JsonDatasetReader extends DatasetReader {
+        private final JsonParser parser;
+
+        JsonDatasetReader(Path file, JsonFactory jsonFactory) throws IOException {
+            super(file);
+            this.parser = jsonFactory.createParser(input());
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY) {
+                token = parser.nextToken();
+            }
+            if (token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Se esperaba un objeto JSON por fila en " + parser.currentLocation());
+            }
+            Map<String, String> row = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    row.put(name, parser.readValueAsTree().toString());
+                } else if (value == JsonToken.VALUE_NULL) {
+                    row.put(name, "");
+                } else {
+                    row.put(name, parser.getText());
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package cl.prezdev.envio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Writes a file off the caller's thread. Callers hand over bytes they already serialized; saves that arrive before
+// the delay expires replace the pending bytes, so only the last one is written. The file is replaced whole through
+// a synced temp file, so a crash mid-write leaves at most a stale .tmp next to the previous version.
+public final class DeferredFileWriter {
+
+    private final Path path;
+    private final String threadName;
+    private final long delayMillis;
+    private final String failureMessage;
+    private final MetricsRegistry.Timer writeTimer;
+    private final MetricsRegistry.Counter coalescedCounter;
+    private final Object writeLock = new Object();
+    private ScheduledExecutorService writer;
+    private byte[] pending;
+
+    public DeferredFileWriter(Path path, String threadName, long delayMillis, String failureMessage,
+                              MetricsRegistry.Timer writeTimer, MetricsRegistry.Counter coalescedCounter) {
+        this.path = path;
+        this.threadName = threadName;
+        this.delayMillis = delayMillis;
+        this.failureMessage = failureMessage;
+        this.writeTimer = writeTimer;
+        this.coalescedCounter = coalescedCounter;
+    }
+
+    public void submit(byte[] bytes) {
+        synchronized (this) {
+            if (pending != null) {
+                pending = bytes;
+                coalescedCounter.increment();
+                return;
+            }
+            pending = bytes;
+            writer().schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void flush() {
+        synchronized (writeLock) {
+            byte[] bytes;
+            synchronized (this) {
+                bytes = pending;
+                pending = null;
+            }
+            if (bytes == null) {
+                return;
+            }
+            MetricsRegistry.Sample sample = writeTimer.start();
+            try {
+                write(path, bytes);
+            } catch (IOException ex) {
+                System.err.println(failureMessage + ": " + ex.getMessage());
+            } finally {
+                sample.stop();
+            }
+        }
+    }
+
+    public static void write(Path path, byte[] bytes) throws IOException {
+        Path directory = path.getParent();
+        if (directory != null && !Files.exists(directory)) {
+            Files.createDirectories(directory);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private synchronized ScheduledExecutorService writer() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, threadName + "-flush"));
+        }
+        return writer;
+    }
+}
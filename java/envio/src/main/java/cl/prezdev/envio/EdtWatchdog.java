@@ -0,0 +1,195 @@
+package cl.prezdev.envio;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class EdtWatchdog {
+
+    private static final String ENABLED_PROPERTY = "envio.edt.watchdog";
+    private static final String REPORT_PROPERTY = "envio.edt.report";
+    private static final String THRESHOLD_PROPERTY = "envio.edt.thresholdMs";
+    private static final long DEFAULT_THRESHOLD_MS = 200;
+    private static final int MAX_STACK_FRAMES = 40;
+    private static final long[] RESPONSIVENESS_BOUNDS_MS = {16, 50, 100, 200, 500, 1000, 5000};
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    private final long thresholdNanos;
+    private final boolean report;
+    private final MetricsRegistry.Timer dispatchTimer;
+    private final MetricsRegistry.Timer stallTimer;
+    private final AtomicLongArray responsivenessBuckets = new AtomicLongArray(RESPONSIVENESS_BOUNDS_MS.length + 1);
+    private final MonitoredEventQueue eventQueue = new MonitoredEventQueue();
+
+    private EdtWatchdog(long thresholdMillis, boolean report, MetricsRegistry metrics) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.report = report;
+        this.dispatchTimer = metrics.timer("ui.edt.dispatch");
+        this.stallTimer = metrics.timer("ui.edt.stall");
+    }
+
+    public static void install(MetricsRegistry metrics) {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return;
+        }
+        if (!INSTALLED.compareAndSet(false, true)) {
+            return;
+        }
+        long threshold = Math.max(1, Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MS));
+        // Stalls always go to the metrics; stack traces and the exit histogram only when asked for.
+        boolean report = Boolean.getBoolean(REPORT_PROPERTY);
+        EdtWatchdog watchdog = new EdtWatchdog(threshold, report, metrics);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog.eventQueue);
+        if (report) {
+            watchdog.startMonitor(Math.max(5, threshold / 4));
+            Runtime.getRuntime().addShutdownHook(new Thread(watchdog::printResponsivenessReport, "envio-edt-report"));
+        }
+    }
+
+    private void startMonitor(long intervalMillis) {
+        Thread monitor = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                inspectCurrentDispatch();
+            }
+        }, "envio-edt-watchdog");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    private void inspectCurrentDispatch() {
+        MonitoredEventQueue queue = eventQueue;
+        AWTEvent event = queue.currentEvent;
+        Thread edt = queue.dispatchThread;
+        long sequence = queue.sequence;
+        long start = queue.dispatchStart;
+        if (event == null || edt == null || queue.reportedSequence == sequence) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed < thresholdNanos) {
+            return;
+        }
+        StackTraceElement[] stack = edt.getStackTrace();
+        if (queue.sequence != sequence) {
+            return;
+        }
+        queue.reportedSequence = sequence;
+        StringBuilder builder = new StringBuilder()
+                .append("EDT bloqueado ").append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append(" ms despachando ")
+                .append(describe(event));
+        int frames = Math.min(stack.length, MAX_STACK_FRAMES);
+        for (int i = 0; i < frames; i++) {
+            builder.append(System.lineSeparator()).append("    at ").append(stack[i]);
+        }
+        if (stack.length > frames) {
+            builder.append(System.lineSeparator()).append("    ... ").append(stack.length - frames).append(" más");
+        }
+        System.err.println(builder);
+    }
+
+    private void recordDispatch(AWTEvent event, long elapsedNanos, boolean reported) {
+        dispatchTimer.record(elapsedNanos);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int bucket = 0;
+        while (bucket < RESPONSIVENESS_BOUNDS_MS.length && elapsedMillis >= RESPONSIVENESS_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        responsivenessBuckets.incrementAndGet(bucket);
+        if (elapsedNanos >= thresholdNanos) {
+            stallTimer.record(elapsedNanos);
+            if (!report) {
+                return;
+            }
+            String prefix = reported ? "EDT liberado tras " : "EDT bloqueado ";
+            System.err.println(prefix + elapsedMillis + " ms despachando " + describe(event));
+        }
+    }
+
+    private void printResponsivenessReport() {
+        long total = 0;
+        for (int i = 0; i < responsivenessBuckets.length(); i++) {
+            total += responsivenessBuckets.get(i);
+        }
+        long stalls = stallTimer.count();
+        if (total == 0 || stalls == 0) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder("Respuesta del EDT (" + total + " eventos, " + stalls + " bloqueos):");
+        for (int i = 0; i < responsivenessBuckets.length(); i++) {
+            String range = i < RESPONSIVENESS_BOUNDS_MS.length
+                    ? "< " + RESPONSIVENESS_BOUNDS_MS[i] + " ms"
+                    : ">= " + RESPONSIVENESS_BOUNDS_MS[RESPONSIVENESS_BOUNDS_MS.length - 1] + " ms";
+            long count = responsivenessBuckets.get(i);
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-10s %8d  %6.2f%%", range, count, count * 100.0 / total));
+        }
+        System.err.println(builder);
+    }
+
+    private static String describe(AWTEvent event) {
+        String eventName = event.getClass().getSimpleName();
+        Object source = event.getSource();
+        if (event instanceof InvocationEvent) {
+            return eventName + " [" + event.paramString() + "]";
+        }
+        if (source instanceof Component component) {
+            String name = component.getName();
+            return eventName + " en " + component.getClass().getName() + (name != null ? " (" + name + ")" : "");
+        }
+        return eventName + " en " + (source != null ? source.getClass().getName() : "?");
+    }
+
+    private final class MonitoredEventQueue extends EventQueue {
+        private volatile AWTEvent currentEvent;
+        private volatile Thread dispatchThread;
+        private volatile long dispatchStart;
+        private volatile long sequence;
+        private volatile long reportedSequence = -1;
+        private int depth;
+        private boolean outerPumped;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            AWTEvent previousEvent = currentEvent;
+            long previousStart = dispatchStart;
+            long previousSequence = sequence;
+            if (depth > 0) {
+                outerPumped = true;
+            }
+            depth++;
+            long start = System.nanoTime();
+            dispatchThread = Thread.currentThread();
+            dispatchStart = start;
+            currentEvent = event;
+            sequence = previousSequence + 1;
+            long ownSequence = sequence;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                depth--;
+                long elapsed = System.nanoTime() - start;
+                boolean nestedLoop = depth == 0 && outerPumped;
+                if (depth == 0) {
+                    outerPumped = false;
+                }
+                if (!nestedLoop) {
+                    recordDispatch(event, elapsed, reportedSequence == ownSequence);
+                }
+                currentEvent = depth > 0 ? previousEvent : null;
+                dispatchStart = depth > 0 ? System.nanoTime() : previousStart;
+                sequence = sequence + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package cl.prezdev.envio;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class Environment {
+    @Setter
+    private String name;
+    private final Map<String, String> variables = new LinkedHashMap<>();
+
+    public Environment() {
+    }
+
+    public Environment(String name) {
+        this.name = name;
+    }
+
+    public Environment copy() {
+        Environment copy = new Environment(name);
+        copy.variables.putAll(variables);
+        return copy;
+    }
+
+    public void setVariables(Map<String, String> variables) {
+        this.variables.clear();
+        if (variables != null) {
+            this.variables.putAll(variables);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
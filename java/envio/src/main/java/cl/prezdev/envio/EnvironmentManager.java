@@ -0,0 +1,78 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class EnvironmentManager {
+    private static final String DIRECTORY_NAME = ".envio";
+    private static final String FILE_NAME = "environments.json";
+    // Edits are discrete clicks; the delay only has to take the write off the EDT.
+    private static final long WRITE_DELAY_MILLIS = 0;
+
+    private final Path environmentsPath;
+    private final DeferredFileWriter writer;
+    private ObjectMapper mapper;
+
+    public EnvironmentManager() {
+        this(Paths.get(System.getProperty("user.home"), DIRECTORY_NAME, FILE_NAME));
+    }
+
+    public EnvironmentManager(Path environmentsPath) {
+        this(environmentsPath, MetricsRegistry.global());
+    }
+
+    public EnvironmentManager(Path environmentsPath, MetricsRegistry metrics) {
+        this.environmentsPath = environmentsPath;
+        this.writer = new DeferredFileWriter(environmentsPath, "envio-environments-writer", WRITE_DELAY_MILLIS,
+                "No se pudieron guardar los entornos", metrics.timer("environments.write"),
+                metrics.counter("environments.coalesced", ""));
+    }
+
+    public static EnvironmentManager nextTo(SettingsManager settingsManager) {
+        return new EnvironmentManager(settingsManager.getSettingsPath().resolveSibling(FILE_NAME));
+    }
+
+    public Environments load() {
+        if (Files.exists(environmentsPath)) {
+            try {
+                return mapper().readValue(environmentsPath.toFile(), Environments.class);
+            } catch (IOException ex) {
+                System.err.println("No se pudieron cargar los entornos: " + ex.getMessage());
+            }
+        }
+        return Environments.defaults();
+    }
+
+    // Serialized on the caller so the writer never sees Environments while it is being edited.
+    public void save(Environments environments) {
+        try {
+            writer.submit(mapper().writeValueAsBytes(environments));
+        } catch (JsonProcessingException ex) {
+            System.err.println("No se pudieron guardar los entornos: " + ex.getMessage());
+        }
+    }
+
+    public void flush() {
+        writer.flush();
+    }
+
+    private synchronized ObjectMapper mapper() {
+        if (mapper == null) {
+            mapper = new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        return mapper;
+    }
+
+    public Path getEnvironmentsPath() {
+        return environmentsPath;
+    }
+}
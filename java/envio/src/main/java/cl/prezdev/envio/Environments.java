@@ -0,0 +1,68 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Environments {
+    @Setter
+    private String active;
+    private final List<Environment> environments = new ArrayList<>();
+
+    public static Environments defaults() {
+        Environments defaults = new Environments();
+        Environment local = new Environment("local");
+        local.getVariables().put("baseUrl", "https://jsonplaceholder.typicode.com");
+        defaults.environments.add(local);
+        defaults.active = local.getName();
+        return defaults;
+    }
+
+    public Environments copy() {
+        Environments copy = new Environments();
+        copy.active = active;
+        environments.forEach(environment -> copy.environments.add(environment.copy()));
+        return copy;
+    }
+
+    public void copyFrom(Environments other) {
+        this.active = other.active;
+        this.environments.clear();
+        other.environments.forEach(environment -> this.environments.add(environment.copy()));
+    }
+
+    public void setEnvironments(List<Environment> environments) {
+        this.environments.clear();
+        if (environments != null) {
+            this.environments.addAll(environments);
+        }
+    }
+
+    @JsonIgnore
+    public Environment getActiveEnvironment() {
+        for (Environment environment : environments) {
+            if (environment.getName() != null && environment.getName().equals(active)) {
+                return environment;
+            }
+        }
+        return null;
+    }
+
+    @JsonIgnore
+    public Function<String, String> resolver() {
+        Environment environment = getActiveEnvironment();
+        if (environment == null) {
+            return name -> null;
+        }
+        Map<String, String> variables = Map.copyOf(environment.getVariables());
+        return variables::get;
+    }
+}
@@ -0,0 +1,182 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.EnvironmentTexts;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class EnvironmentsDialog extends JDialog {
+    private final Environments workingCopy;
+    private final Consumer<Environments> onSave;
+    private final EnvironmentTexts texts;
+    private final DefaultListModel<Environment> environmentListModel = new DefaultListModel<>();
+    private final JList<Environment> environmentList = new JList<>(environmentListModel);
+    private final DefaultTableModel variablesModel;
+    private final JTable variablesTable;
+    private Environment editing;
+
+    public EnvironmentsDialog(Frame owner, Environments environments, Language language, Consumer<Environments> onSave) {
+        super(owner, I18n.environments(language).dialogTitle(), true);
+        this.workingCopy = environments.copy();
+        this.onSave = onSave;
+        this.texts = I18n.environments(language);
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout(12, 12));
+        getRootPane().setBorder(new EmptyBorder(12, 12, 12, 12));
+
+        workingCopy.getEnvironments().forEach(environmentListModel::addElement);
+        environmentList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        environmentList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                showEnvironment(environmentList.getSelectedValue());
+            }
+        });
+
+        variablesModel = new DefaultTableModel(texts.variableColumns().toArray(), 0);
+        variablesTable = new JTable(variablesModel);
+        variablesTable.setFillsViewportHeight(true);
+        variablesTable.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, createEnvironmentPanel(), createVariablesPanel());
+        split.setResizeWeight(0.3);
+        add(split, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton cancelButton = new JButton(texts.cancelButton());
+        cancelButton.addActionListener(e -> dispose());
+        JButton saveButton = new JButton(texts.saveButton());
+        saveButton.addActionListener(e -> onSave());
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(saveButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        Environment active = workingCopy.getActiveEnvironment();
+        if (active != null) {
+            environmentList.setSelectedValue(active, true);
+        } else if (!environmentListModel.isEmpty()) {
+            environmentList.setSelectedIndex(0);
+        }
+
+        setSize(720, 420);
+        setLocationRelativeTo(owner);
+    }
+
+    private JPanel createEnvironmentPanel() {
+        JPanel panel = new JPanel(new BorderLayout(4, 4));
+        panel.add(new JLabel(texts.environmentsLabel()), BorderLayout.NORTH);
+        panel.add(new JScrollPane(environmentList), BorderLayout.CENTER);
+
+        JButton addButton = new JButton(texts.addButton());
+        addButton.addActionListener(e -> addEnvironment());
+        JButton removeButton = new JButton(texts.removeButton());
+        removeButton.addActionListener(e -> removeEnvironment());
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 0));
+        buttons.add(addButton);
+        buttons.add(removeButton);
+        panel.add(buttons, BorderLayout.SOUTH);
+        return panel;
+    }
+
+    private JPanel createVariablesPanel() {
+        JPanel panel = new JPanel(new BorderLayout(4, 4));
+        panel.add(new JLabel(texts.variablesLabel()), BorderLayout.NORTH);
+        panel.add(new JScrollPane(variablesTable), BorderLayout.CENTER);
+
+        JButton addButton = new JButton(texts.addButton());
+        addButton.addActionListener(e -> {
+            if (editing != null) {
+                variablesModel.addRow(new Object[]{"", ""});
+                int row = variablesModel.getRowCount() - 1;
+                variablesTable.changeSelection(row, 0, false, false);
+                variablesTable.editCellAt(row, 0);
+            }
+        });
+        JButton removeButton = new JButton(texts.removeButton());
+        removeButton.addActionListener(e -> {
+            stopEditing();
+            int[] rows = variablesTable.getSelectedRows();
+            for (int i = rows.length - 1; i >= 0; i--) {
+                variablesModel.removeRow(rows[i]);
+            }
+        });
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 0));
+        buttons.add(addButton);
+        buttons.add(removeButton);
+        panel.add(buttons, BorderLayout.SOUTH);
+        return panel;
+    }
+
+    private void addEnvironment() {
+        String name = JOptionPane.showInputDialog(this, texts.newEnvironmentPrompt());
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        Environment environment = new Environment(name.trim());
+        workingCopy.getEnvironments().add(environment);
+        environmentListModel.addElement(environment);
+        environmentList.setSelectedValue(environment, true);
+    }
+
+    private void removeEnvironment() {
+        Environment selected = environmentList.getSelectedValue();
+        if (selected == null) {
+            return;
+        }
+        editing = null;
+        workingCopy.getEnvironments().remove(selected);
+        environmentListModel.removeElement(selected);
+        variablesModel.setRowCount(0);
+        if (!environmentListModel.isEmpty()) {
+            environmentList.setSelectedIndex(0);
+        }
+    }
+
+    private void showEnvironment(Environment environment) {
+        commitVariables();
+        editing = environment;
+        variablesModel.setRowCount(0);
+        if (environment != null) {
+            environment.getVariables().forEach((name, value) -> variablesModel.addRow(new Object[]{name, value}));
+        }
+    }
+
+    private void commitVariables() {
+        stopEditing();
+        if (editing == null) {
+            return;
+        }
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int row = 0; row < variablesModel.getRowCount(); row++) {
+            Object name = variablesModel.getValueAt(row, 0);
+            Object value = variablesModel.getValueAt(row, 1);
+            if (name != null && !name.toString().isBlank()) {
+                variables.put(name.toString().trim(), value != null ? value.toString() : "");
+            }
+        }
+        editing.setVariables(variables);
+    }
+
+    private void stopEditing() {
+        if (variablesTable.isEditing()) {
+            variablesTable.getCellEditor().stopCellEditing();
+        }
+    }
+
+    private void onSave() {
+        commitVariables();
+        Environment selected = environmentList.getSelectedValue();
+        if (selected != null) {
+            workingCopy.setActive(selected.getName());
+        } else if (workingCopy.getActiveEnvironment() == null) {
+            workingCopy.setActive(null);
+        }
+        onSave.accept(workingCopy);
+        dispose();
+    }
+}
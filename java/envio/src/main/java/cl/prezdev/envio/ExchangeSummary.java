@@ -0,0 +1,12 @@
+package cl.prezdev.envio;
+
+public record ExchangeSummary(int statusCode, long latencyNanos, long bytesReceived, String body, String errorMessage, int attempts) {
+
+    public static ExchangeSummary failure(long latencyNanos, String errorMessage) {
+        return new ExchangeSummary(-1, latencyNanos, 0, null, errorMessage, 1);
+    }
+
+    public boolean isError() {
+        return errorMessage != null || statusCode >= 400;
+    }
+}
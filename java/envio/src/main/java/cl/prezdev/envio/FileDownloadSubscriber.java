@@ -0,0 +1,173 @@
+package cl.prezdev.envio;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+public class FileDownloadSubscriber implements HttpResponse.BodySubscriber<FileDownloadSubscriber.FileDownload> {
+
+    public static final int PREVIEW_BYTES = 4096;
+    private static final long PROGRESS_INTERVAL_NANOS = 100_000_000L;
+
+    public interface ProgressListener {
+        void onProgress(long bytesReceived, long contentLength, double bytesPerSecond);
+    }
+
+    private final Path requestedFile;
+    private Path file;
+    private final long contentLength;
+    private final ProgressListener listener;
+    private final CompletableFuture<FileDownload> result = new CompletableFuture<>();
+    private final byte[] preview = new byte[PREVIEW_BYTES];
+    private int previewLength;
+    private long bytesReceived;
+    private long startNanos;
+    private long lastProgressNanos;
+    private FileChannel channel;
+    private Flow.Subscription subscription;
+
+    public FileDownloadSubscriber(Path file, long contentLength, ProgressListener listener) {
+        this.requestedFile = file;
+        this.contentLength = contentLength;
+        this.listener = listener;
+    }
+
+    @Override
+    public CompletionStage<FileDownload> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        try {
+            Files.createDirectories(requestedFile.toAbsolutePath().getParent());
+            channel = openUnique(requestedFile);
+        } catch (IOException ex) {
+            subscription.cancel();
+            result.completeExceptionally(ex);
+            return;
+        }
+        startNanos = System.nanoTime();
+        lastProgressNanos = startNanos;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        try {
+            ByteBuffer[] chunk = buffers.toArray(new ByteBuffer[0]);
+            for (ByteBuffer buffer : chunk) {
+                capturePreview(buffer);
+            }
+            long remaining = 0;
+            for (ByteBuffer buffer : chunk) {
+                remaining += buffer.remaining();
+            }
+            bytesReceived += remaining;
+            while (remaining > 0) {
+                remaining -= channel.write(chunk);
+            }
+        } catch (IOException ex) {
+            subscription.cancel();
+            fail(ex);
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastProgressNanos >= PROGRESS_INTERVAL_NANOS) {
+            lastProgressNanos = now;
+            reportProgress(now);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            fail(ex);
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        reportProgress(System.nanoTime());
+        byte[] head = new byte[previewLength];
+        System.arraycopy(preview, 0, head, 0, previewLength);
+        result.complete(new FileDownload(file, bytesReceived, head, elapsed));
+    }
+
+    private void capturePreview(ByteBuffer buffer) {
+        if (previewLength >= PREVIEW_BYTES) {
+            return;
+        }
+        int length = Math.min(buffer.remaining(), PREVIEW_BYTES - previewLength);
+        buffer.duplicate().get(preview, previewLength, length);
+        previewLength += length;
+    }
+
+    private void reportProgress(long now) {
+        if (listener == null) {
+            return;
+        }
+        double seconds = (now - startNanos) / 1_000_000_000.0;
+        listener.onProgress(bytesReceived, contentLength, seconds > 0 ? bytesReceived / seconds : 0);
+    }
+
+    // CREATE_NEW claims the name atomically, so two downloads of the same file name never write to the same path;
+    // a taken name moves on to name-1.ext, name-2.ext and so on.
+    private FileChannel openUnique(Path requested) throws IOException {
+        String fileName = requested.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String extension = dot > 0 ? fileName.substring(dot) : "";
+        Path candidate = requested;
+        for (int i = 1; ; i++) {
+            try {
+                FileChannel opened = FileChannel.open(candidate, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                file = candidate;
+                return opened;
+            } catch (FileAlreadyExistsException ex) {
+                candidate = requested.resolveSibling(base + "-" + i + extension);
+            }
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The original failure is what the caller needs to see.
+            }
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // A leftover partial file must not hide the original failure.
+            }
+        }
+        result.completeExceptionally(throwable);
+    }
+
+    public record FileDownload(Path file, long bytes, byte[] preview, long elapsedNanos) {
+
+        public double bytesPerSecond() {
+            return elapsedNanos > 0 ? bytes * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.RequestBodyTexts;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FormFieldsPanel extends JPanel {
+
+    private final FormTableModel tableModel = new FormTableModel();
+    private final JTable table;
+    private final JButton addFieldButton = new JButton();
+    private final JButton addFileButton = new JButton();
+    private final JButton removeButton = new JButton();
+    private RequestBodyTexts texts;
+
+    public FormFieldsPanel(Language language) {
+        this.texts = I18n.requestBody(language);
+        // The table asks the model for column names on construction, which needs the texts.
+        this.table = new JTable(tableModel);
+
+        setLayout(new BorderLayout(4, 4));
+        table.setFillsViewportHeight(true);
+        table.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        addFieldButton.addActionListener(e -> {
+            tableModel.add(new Row("", "", null));
+            int row = tableModel.getRowCount() - 1;
+            table.changeSelection(row, 0, false, false);
+            table.editCellAt(row, 0);
+        });
+        addFileButton.addActionListener(e -> addFiles());
+        removeButton.addActionListener(e -> removeSelected());
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        buttons.add(addFieldButton);
+        buttons.add(addFileButton);
+        buttons.add(removeButton);
+        add(buttons, BorderLayout.SOUTH);
+
+        setLanguage(language);
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.requestBody(language);
+        addFieldButton.setText(texts.addFieldButton());
+        addFileButton.setText(texts.addFileButton());
+        removeButton.setText(texts.removeFieldButton());
+        tableModel.fireTableStructureChanged();
+    }
+
+    public void setMultipart(boolean multipart) {
+        addFileButton.setVisible(multipart);
+    }
+
+    public List<RequestBody.FormField> fields(boolean includeFiles) {
+        if (table.isEditing()) {
+            table.getCellEditor().stopCellEditing();
+        }
+        List<RequestBody.FormField> fields = new ArrayList<>(tableModel.rows.size());
+        for (Row row : tableModel.rows) {
+            if (row.name.isBlank()) {
+                continue;
+            }
+            if (row.file != null) {
+                if (includeFiles) {
+                    fields.add(RequestBody.FormField.file(row.name, row.file));
+                }
+            } else {
+                fields.add(RequestBody.FormField.text(row.name, row.value));
+            }
+        }
+        return fields;
+    }
+
+    private void addFiles() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setMultiSelectionEnabled(true);
+        chooser.setDialogTitle(texts.fileDialogTitle());
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        for (File file : chooser.getSelectedFiles()) {
+            tableModel.add(new Row("file", file.getAbsolutePath(), file.toPath()));
+        }
+    }
+
+    private void removeSelected() {
+        if (table.isEditing()) {
+            table.getCellEditor().cancelCellEditing();
+        }
+        int[] selected = table.getSelectedRows();
+        for (int i = selected.length - 1; i >= 0; i--) {
+            tableModel.remove(table.convertRowIndexToModel(selected[i]));
+        }
+    }
+
+    private static final class Row {
+        private String name;
+        private String value;
+        private Path file;
+
+        private Row(String name, String value, Path file) {
+            this.name = name;
+            this.value = value;
+            this.file = file;
+        }
+    }
+
+    private class FormTableModel extends AbstractTableModel {
+        private final List<Row> rows = new ArrayList<>();
+
+        void add(Row row) {
+            rows.add(row);
+            fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+        }
+
+        void remove(int index) {
+            rows.remove(index);
+            fireTableRowsDeleted(index, index);
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return texts.formColumns().size();
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return texts.formColumns().get(column);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 2 ? Boolean.class : String.class;
+        }
+
+        @Override
+        public boolean isCellEditable(int rowIndex, int columnIndex) {
+            return columnIndex == 0 || (columnIndex == 1 && rows.get(rowIndex).file == null);
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Row row = rows.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> row.name;
+                case 1 -> row.value;
+                default -> row.file != null;
+            };
+        }
+
+        @Override
+        public void setValueAt(Object value, int rowIndex, int columnIndex) {
+            Row row = rows.get(rowIndex);
+            String text = value != null ? value.toString() : "";
+            if (columnIndex == 0) {
+                row.name = text;
+            } else if (columnIndex == 1) {
+                row.value = text;
+            }
+            fireTableCellUpdated(rowIndex, columnIndex);
+        }
+    }
+}
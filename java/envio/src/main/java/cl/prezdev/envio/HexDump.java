@@ -0,0 +1,43 @@
+package cl.prezdev.envio;
+
+public final class HexDump {
+
+    private static final int BYTES_PER_LINE = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private HexDump() {
+    }
+
+    public static String format(byte[] data) {
+        StringBuilder builder = new StringBuilder((data.length / BYTES_PER_LINE + 1) * 78);
+        for (int offset = 0; offset < data.length; offset += BYTES_PER_LINE) {
+            int end = Math.min(offset + BYTES_PER_LINE, data.length);
+            appendHex(builder, offset, 8);
+            builder.append("  ");
+            for (int i = offset; i < offset + BYTES_PER_LINE; i++) {
+                if (i < end) {
+                    appendHex(builder, data[i] & 0xff, 2);
+                    builder.append(' ');
+                } else {
+                    builder.append("   ");
+                }
+                if (i == offset + BYTES_PER_LINE / 2 - 1) {
+                    builder.append(' ');
+                }
+            }
+            builder.append(" |");
+            for (int i = offset; i < end; i++) {
+                int value = data[i] & 0xff;
+                builder.append(value >= 0x20 && value < 0x7f ? (char) value : '.');
+            }
+            builder.append('|').append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static void appendHex(StringBuilder builder, int value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append(HEX[(value >>> shift) & 0xf]);
+        }
+    }
+}
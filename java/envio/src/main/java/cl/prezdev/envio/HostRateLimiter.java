@@ -0,0 +1,48 @@
+package cl.prezdev.envio;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class HostRateLimiter {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile double permitsPerSecond;
+    private volatile int burst;
+
+    public HostRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public void setRate(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        buckets.values().forEach(bucket -> bucket.setRate(permitsPerSecond, burst));
+    }
+
+    public double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public boolean isUnlimited() {
+        return permitsPerSecond <= 0;
+    }
+
+    public void acquire(URI uri) throws InterruptedException {
+        if (isUnlimited()) {
+            return;
+        }
+        bucket(uri).acquire();
+    }
+
+    public TokenBucket bucket(URI uri) {
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) + ":" + uri.getPort() : "";
+        return buckets.computeIfAbsent(host, key -> new TokenBucket(permitsPerSecond, burst));
+    }
+
+    public int hostCount() {
+        return buckets.size();
+    }
+}
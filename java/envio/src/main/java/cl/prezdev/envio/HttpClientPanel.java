@@ -1,30 +1,49 @@
 package cl.prezdev.envio;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.DefaultStyledDocument;
 import javax.swing.text.SimpleAttributeSet;
 import javax.swing.text.Style;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.StyleContext;
-import javax.swing.tree.DefaultMutableTreeNode;
-import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import java.awt.*;
 import java.awt.event.ItemEvent;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseWheelEvent;
 import javax.swing.SwingUtilities;
 
+import cl.prezdev.envio.I18n.DownloadTexts;
+import cl.prezdev.envio.I18n.EnvironmentTexts;
+import cl.prezdev.envio.I18n.LimiterTexts;
+import cl.prezdev.envio.I18n.MemoryTexts;
 import cl.prezdev.envio.I18n.PanelTexts;
+import cl.prezdev.envio.I18n.RenderTexts;
+import cl.prezdev.envio.I18n.RequestBodyTexts;
+import cl.prezdev.envio.I18n.TimingTexts;
 
 public class HttpClientPanel extends JPanel {
 
@@ -37,21 +56,88 @@ public class HttpClientPanel extends JPanel {
     private static final String CODE_FONT_SCALE_PROPERTY = "code-font-scale";
     private static final String CODE_FONT_ID_PROPERTY = "code-font-id";
     private static final String TAB_SCROLL_LISTENER_KEY = "tab-scroll-listener";
+    private static final int JSON_FORMATTED_TAB_INDEX = 0;
+    private static final int JSON_TREE_TAB_INDEX = 1;
+    private static final int SCHEMA_TAB_INDEX = 2;
+    private static final int JSON_TABLE_TAB_INDEX = 3;
+    private static final int RAW_REQUEST_TAB_INDEX = 4;
+    private static final int RAW_RESPONSE_TAB_INDEX = 5;
+    private static final int STREAM_TAB_INDEX = 6;
+    private static final int WEB_SOCKET_TAB_INDEX = 7;
+    private static final int METRICS_TAB_INDEX = 8;
+    private static final int QUERY_TAB_INDEX = 9;
+    private static final int STREAM_RETENTION = 10_000;
+    private static final int LIMITER_REFRESH_MS = 500;
+    // Formatted copy, styled document and tree together take roughly this many bytes per body byte.
+    private static final int FULL_RENDER_MEMORY_FACTOR = 12;
+    // Measured on pretty-printed JSON: the styled document costs ~40 bytes per char, highlighting ~38 more
+    // and the parsed tree ~7.
+    private static final int DOCUMENT_BYTES_PER_CHAR = 40;
+    private static final int HIGHLIGHT_BYTES_PER_CHAR = 38;
+    private static final int TREE_BYTES_PER_CHAR = 7;
+    public static final String REQUEST_TITLE_PROPERTY = "requestTitle";
+    // Fired after this tab saved the shared Environments, so the other tabs can refresh their selector.
+    public static final String ENVIRONMENTS_PROPERTY = "environments";
 
     private final JComboBox<HttpMethod> methodComboBox = new JComboBox<>(HttpMethod.values());
     private final JTextField urlField = new JTextField("https://jsonplaceholder.typicode.com/posts/1", 40);
-    private final JTextArea rawRequestArea = createTextArea(TEXT_AREA_ROWS / 2);
-    private final JTextArea rawResponseArea = createTextArea(TEXT_AREA_ROWS / 2);
+    private LargeTextViewer rawRequestArea;
+    private LargeTextViewer rawResponseArea;
+    private final JCheckBoxMenuItem rawWrapMenuItem = new JCheckBoxMenuItem();
     private final JButton sendButton = new JButton();
+    private final JCheckBox streamCheckBox = new JCheckBox();
     private final JLabel statusLabel = new JLabel();
     private final JLabel statusCodeLabel = new JLabel();
+    private final JLabel limiterLabel = new JLabel();
+    private final JLabel memoryLabel = new JLabel();
+    private final JProgressBar downloadProgressBar = new JProgressBar();
+    private final JLabel downloadProgressLabel = new JLabel();
     private final JLabel methodLabel = new JLabel();
     private final JLabel urlLabel = new JLabel();
     private final JLabel requestBodyLabel = new JLabel();
+    private final JComboBox<RequestBodyMode> bodyModeComboBox = new JComboBox<>(RequestBodyMode.values());
+    private final JButton bodyFileButton = new JButton();
+    private final JLabel bodyFileLabel = new JLabel();
+    private final JLabel generatedLinesLabel = new JLabel();
+    private final JSpinner generatedLinesSpinner = new JSpinner(new SpinnerNumberModel(Long.valueOf(100_000), Long.valueOf(1), Long.valueOf(Long.MAX_VALUE), Long.valueOf(1_000)));
+    private final JPanel bodyEditorCards = new JPanel(new CardLayout());
+    private FormFieldsPanel formFieldsPanel;
+    private final JLabel timingLabel = new JLabel();
+    private Path requestBodyFile;
+    private boolean updatingEnvironmentCombo;
+    private String formattedRequestBodyCache;
     private final JTabbedPane resultTabs = new JTabbedPane();
+    private final JPanel renderBanner = new JPanel(new BorderLayout(8, 0));
+    private final JLabel renderBannerLabel = new JLabel();
+    private final JButton renderFullyButton = new JButton();
+    private RenderStrategy renderStrategy = RenderStrategy.FULL;
+    private long renderedBytes;
+    private Path spilledBody;
+    private final Map<Integer, Supplier<JComponent>> lazyTabFactories = new HashMap<>();
     private JSplitPane bodyTabsSplit;
     private int lastStatusCode = -1;
-    private final HttpClientService httpClientService = new HttpClientService();
+    private final MetricsRegistry metrics = MetricsRegistry.global();
+    private final HttpClientService httpClientService;
+    private final MetricsRegistry.Timer highlightTimer = metrics.timer("ui.highlight");
+    private final MetricsRegistry.Timer treeBuildTimer = metrics.timer("ui.tree.build");
+    private final MetricsRegistry.Timer renderTimer = metrics.timer("ui.render");
+    private Timer limiterTimer;
+    private final TabHibernator hibernator = new TabHibernator(() -> this.responseVersion, this::releaseResponseViews,
+            this::applySnapshot, this::showStatusErrorWithDetail, metrics);
+    private final MemoryBudget memoryBudget = MemoryBudget.global();
+    private final MemoryBudget.Artifact highlightMemory = memoryBudget.register(MemoryBudget.Kind.HIGHLIGHT, this::dropHighlighting);
+    private final MemoryBudget.Artifact treeMemory = memoryBudget.register(MemoryBudget.Kind.TREE, this::dropTree);
+    private final MemoryBudget.Artifact responseMemory = memoryBudget.register(MemoryBudget.Kind.RESPONSE, this::hibernateInBackground);
+    private boolean highlightDropped;
+    private boolean applyingResponse;
+    private boolean treeDropped;
+    private MetricsPanel metricsPanel;
+    private StreamPanel streamPanel;
+    private WebSocketPanel webSocketPanel;
+    private JsonQueryPanel queryPanel;
+    private JsonTablePanel tablePanel;
+    private SchemaPanel schemaPanel;
+    private int responseVersion;
     private final StyleContext styleContext = new StyleContext();
     private final DefaultStyledDocument jsonDocument = new DefaultStyledDocument(styleContext);
     private final JTextArea requestBodyArea = createTextArea(8);
@@ -61,15 +147,24 @@ public class HttpClientPanel extends JPanel {
     private final Style numberStyle;
     private final Style literalStyle;
     private final JTextPane jsonResponsePane;
-    private final JTree jsonTree;
+    private JTree jsonTree;
+    private final JsonTreeModel jsonTreeModel = new JsonTreeModel();
     private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final JsonStreamFormatter jsonFormatter = new JsonStreamFormatter(jsonMapper.getFactory());
     private final Font baseMonospacedFont = new Font(Font.MONOSPACED, Font.PLAIN, 13);
     private float uiScale = 1.0f;
     private final Map<String, JComponent> codeZoomComponents = new LinkedHashMap<>();
     private final Settings settings;
     private final Consumer<Settings> settingsChangedListener;
+    private final EnvironmentManager environmentManager;
+    private final Environments environments;
+    private final JLabel environmentLabel = new JLabel();
+    private final JComboBox<String> environmentComboBox = new JComboBox<>();
+    private final JButton editEnvironmentsButton = new JButton("…");
     private Language currentLanguage = Language.ES;
     private String lastFormattedBody = "";
+    private String lastRawRequest = "";
+    private String lastRawResponse = "";
     private StatusKey currentStatusKey = StatusKey.READY;
     private String currentStatusDetail = "";
     private String currentStatusCustomMessage = "";
@@ -78,8 +173,25 @@ public class HttpClientPanel extends JPanel {
     private final Color defaultStatusColor;
 
     public HttpClientPanel(Settings settings, Consumer<Settings> settingsChangedListener) {
+        this(settings, settingsChangedListener, new EnvironmentManager());
+    }
+
+    public HttpClientPanel(Settings settings, Consumer<Settings> settingsChangedListener, EnvironmentManager environmentManager) {
+        this(settings, settingsChangedListener, environmentManager, new HttpClientService(MetricsRegistry.global()));
+    }
+
+    public HttpClientPanel(Settings settings, Consumer<Settings> settingsChangedListener, EnvironmentManager environmentManager,
+                           HttpClientService httpClientService) {
+        this(settings, settingsChangedListener, environmentManager, environmentManager.load(), httpClientService);
+    }
+
+    public HttpClientPanel(Settings settings, Consumer<Settings> settingsChangedListener, EnvironmentManager environmentManager,
+                           Environments environments, HttpClientService httpClientService) {
         this.settings = settings;
+        this.httpClientService = httpClientService;
         this.settingsChangedListener = settingsChangedListener;
+        this.environmentManager = environmentManager;
+        this.environments = environments;
         this.currentLanguage = settings.getLanguageEnum();
 
         defaultStyle = styleContext.getStyle(StyleContext.DEFAULT_STYLE);
@@ -96,7 +208,6 @@ public class HttpClientPanel extends JPanel {
         StyleConstants.setForeground(literalStyle, new Color(152, 118, 170));
 
         jsonResponsePane = createJsonTextPane();
-        jsonTree = createJsonTree();
 
         Color labelColor = UIManager.getColor("Label.foreground");
         this.defaultStatusColor = labelColor != null ? labelColor : statusLabel.getForeground();
@@ -121,6 +232,7 @@ public class HttpClientPanel extends JPanel {
         updateJsonDisplay("");
 
         sendButton.addActionListener(event -> executeRequest());
+        rawWrapMenuItem.addActionListener(event -> applyRawLineWrap());
         methodComboBox.addItemListener(event -> {
             if (event.getStateChange() == ItemEvent.SELECTED) {
                 toggleRequestBody();
@@ -130,10 +242,7 @@ public class HttpClientPanel extends JPanel {
 
         registerBaseFonts(this);
         installCodeFontZoom("requestBody", requestBodyArea);
-        installCodeFontZoom("rawRequest", rawRequestArea);
-        installCodeFontZoom("rawResponse", rawResponseArea);
         installCodeFontZoom("jsonResponse", jsonResponsePane);
-        installCodeFontZoom("jsonTree", jsonTree);
         applySettings();
         setLanguage(currentLanguage, false);
         showStatusReady();
@@ -157,21 +266,23 @@ public class HttpClientPanel extends JPanel {
             }
             return "";
         }
-        try {
-            JsonNode node = jsonMapper.readTree(body);
-            String pretty = jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(node);
-            if (updateArea && !pretty.equals(body)) {
-                requestBodyArea.setText(pretty);
-                requestBodyArea.setCaretPosition(0);
-            }
-            return pretty;
-        } catch (JsonProcessingException ex) {
+        if (body.equals(formattedRequestBodyCache)) {
+            return body;
+        }
+        String pretty = jsonFormatter.format(body);
+        formattedRequestBodyCache = pretty != null ? pretty : body;
+        if (pretty == null) {
             if (updateArea && !body.equals(requestBodyArea.getText())) {
                 requestBodyArea.setText(body);
                 requestBodyArea.setCaretPosition(0);
             }
             return body;
         }
+        if (updateArea && !pretty.equals(body)) {
+            requestBodyArea.setText(pretty);
+            requestBodyArea.setCaretPosition(0);
+        }
+        return pretty;
     }
 
     public void applySample(HttpMethod method, String url, String body, String statusMessage) {
@@ -181,6 +292,7 @@ public class HttpClientPanel extends JPanel {
         if (url != null) {
             urlField.setText(url);
         }
+        bodyModeComboBox.setSelectedItem(RequestBodyMode.TEXT);
         if (method != null && method.allowsBody()) {
             String formattedBody = formatRequestBodyIfJson(body, true);
         } else {
@@ -188,11 +300,10 @@ public class HttpClientPanel extends JPanel {
         }
         requestBodyArea.setCaretPosition(0);
         lastStatusCode = -1;
-        rawRequestArea.setText("");
-        rawResponseArea.setText("");
-        rawRequestArea.setCaretPosition(0);
-        rawResponseArea.setCaretPosition(0);
-        resultTabs.setSelectedIndex(0);
+        showRawRequest("");
+        showRawResponse("");
+        resultTabs.setSelectedIndex(JSON_FORMATTED_TAB_INDEX);
+        firePropertyChange(REQUEST_TITLE_PROPERTY, null, requestTitle());
         if (statusMessage != null && !statusMessage.isBlank()) {
             showCustomStatus(statusMessage, false);
         } else {
@@ -313,8 +424,9 @@ public class HttpClientPanel extends JPanel {
         Font codeFont = baseMonospacedFont.deriveFont(scaledSize);
         component.setFont(codeFont);
         if (component == jsonResponsePane) {
-            updateJsonStyles(codeFont);
-            refreshJsonDocumentFont(codeFont);
+            // Highlighted runs only carry colors and resolve their font through the default style,
+            // so a zoom change is a single style update instead of rewriting every run.
+            applyFontToStyle(defaultStyle, codeFont);
         }
         if (component instanceof JTree tree) {
             int rowHeight = Math.max(16, Math.round(codeFont.getSize2D() * 1.4f));
@@ -322,24 +434,11 @@ public class HttpClientPanel extends JPanel {
         }
     }
 
-    private void updateJsonStyles(Font font) {
-        applyFontToStyle(defaultStyle, font);
-        applyFontToStyle(keyStyle, font);
-        applyFontToStyle(stringStyle, font);
-        applyFontToStyle(numberStyle, font);
-        applyFontToStyle(literalStyle, font);
-    }
-
     private void applyFontToStyle(Style style, Font font) {
-        StyleConstants.setFontFamily(style, font.getFamily());
-        StyleConstants.setFontSize(style, Math.round(font.getSize2D()));
-    }
-
-    private void refreshJsonDocumentFont(Font font) {
         SimpleAttributeSet attributes = new SimpleAttributeSet();
         StyleConstants.setFontFamily(attributes, font.getFamily());
         StyleConstants.setFontSize(attributes, Math.round(font.getSize2D()));
-        jsonDocument.setCharacterAttributes(0, jsonDocument.getLength(), attributes, false);
+        style.addAttributes(attributes);
     }
 
     public void applySettings() {
@@ -350,6 +449,8 @@ public class HttpClientPanel extends JPanel {
             component.putClientProperty(CODE_FONT_SCALE_PROPERTY, settings.getComponentScale(id));
         }
         updateCodeFonts();
+        httpClientService.setResiliencePolicy(ResiliencePolicy.from(settings));
+        httpClientService.setLimits(settings.getHostRequestsPerSecond(), settings.getHostBurst(), settings.getMaxConcurrentRequests());
         setLanguage(settings.getLanguageEnum(), false);
     }
 
@@ -368,7 +469,7 @@ public class HttpClientPanel extends JPanel {
         this.currentLanguage = resolved;
         applyLanguageTexts(resolved);
         updateStatusLabel();
-        updateJsonTree(lastFormattedBody);
+        jsonTreeModel.relabelRoot();
         settings.setLanguageEnum(resolved);
         if (persist) {
             persistSettings();
@@ -383,11 +484,53 @@ public class HttpClientPanel extends JPanel {
         urlLabel.setLabelFor(urlField);
         requestBodyLabel.setText(texts.bodyLabel());
         sendButton.setText(texts.sendButton());
-        if (resultTabs.getTabCount() >= 4) {
-            resultTabs.setTitleAt(0, texts.tabJsonFormatted());
-            resultTabs.setTitleAt(1, texts.tabJsonTree());
-            resultTabs.setTitleAt(2, texts.tabRawRequest());
-            resultTabs.setTitleAt(3, texts.tabRawResponse());
+        rawWrapMenuItem.setText(texts.rawWrapLines());
+        streamCheckBox.setText(I18n.stream(language).streamCheckbox());
+        EnvironmentTexts environmentTexts = I18n.environments(language);
+        environmentLabel.setText(environmentTexts.environmentLabel());
+        environmentLabel.setLabelFor(environmentComboBox);
+        editEnvironmentsButton.setToolTipText(environmentTexts.editButtonTooltip());
+        limiterLabel.setToolTipText(I18n.limiter(language).tooltip());
+        updateRenderBanner();
+        refreshLimiterUsage();
+        refreshEnvironmentCombo();
+        RequestBodyTexts bodyTexts = I18n.requestBody(language);
+        bodyFileButton.setText(bodyTexts.chooseFileButton());
+        bodyFileLabel.setText(requestBodyFile != null ? requestBodyFile.getFileName().toString() : bodyTexts.noFileSelected());
+        generatedLinesLabel.setText(bodyTexts.generatedLinesLabel());
+        bodyModeComboBox.repaint();
+        if (formFieldsPanel != null) {
+            formFieldsPanel.setLanguage(language);
+        }
+        if (resultTabs.getTabCount() > QUERY_TAB_INDEX) {
+            resultTabs.setTitleAt(JSON_FORMATTED_TAB_INDEX, texts.tabJsonFormatted());
+            resultTabs.setTitleAt(JSON_TREE_TAB_INDEX, texts.tabJsonTree());
+            resultTabs.setTitleAt(SCHEMA_TAB_INDEX, I18n.schema(language).tabTitle());
+            resultTabs.setTitleAt(JSON_TABLE_TAB_INDEX, I18n.table(language).tabTitle());
+            resultTabs.setTitleAt(RAW_REQUEST_TAB_INDEX, texts.tabRawRequest());
+            resultTabs.setTitleAt(RAW_RESPONSE_TAB_INDEX, texts.tabRawResponse());
+            resultTabs.setTitleAt(STREAM_TAB_INDEX, I18n.stream(language).tabTitle());
+            resultTabs.setTitleAt(WEB_SOCKET_TAB_INDEX, I18n.webSocket(language).tabTitle());
+            resultTabs.setTitleAt(METRICS_TAB_INDEX, I18n.metrics(language).tabTitle());
+            resultTabs.setTitleAt(QUERY_TAB_INDEX, I18n.query(language).tabTitle());
+        }
+        if (metricsPanel != null) {
+            metricsPanel.setLanguage(language);
+        }
+        if (streamPanel != null) {
+            streamPanel.setLanguage(language);
+        }
+        if (webSocketPanel != null) {
+            webSocketPanel.setLanguage(language);
+        }
+        if (queryPanel != null) {
+            queryPanel.setLanguage(language);
+        }
+        if (tablePanel != null) {
+            tablePanel.setLanguage(language);
+        }
+        if (schemaPanel != null) {
+            schemaPanel.setLanguage(language);
         }
     }
 
@@ -471,6 +614,37 @@ public class HttpClientPanel extends JPanel {
         gbc.gridx = 4;
         gbc.weightx = 0;
         gbc.fill = GridBagConstraints.NONE;
+        panel.add(environmentLabel, gbc);
+
+        gbc.gridx = 5;
+        environmentComboBox.setPrototypeDisplayValue("xxxxxxxxxxxxxx");
+        environmentComboBox.addActionListener(event -> selectEnvironment());
+        urlField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                preconnect();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                preconnect();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                preconnect();
+            }
+        });
+        panel.add(environmentComboBox, gbc);
+
+        gbc.gridx = 6;
+        editEnvironmentsButton.addActionListener(event -> editEnvironments());
+        panel.add(editEnvironmentsButton, gbc);
+
+        gbc.gridx = 7;
+        panel.add(streamCheckBox, gbc);
+
+        gbc.gridx = 8;
         panel.add(sendButton, gbc);
 
         return panel;
@@ -479,29 +653,216 @@ public class HttpClientPanel extends JPanel {
     private JComponent createBodyPanel() {
         JPanel bodyPanel = new JPanel(new BorderLayout(4, 4));
         requestBodyLabel.setBorder(new EmptyBorder(0, 0, 4, 0));
-        bodyPanel.add(requestBodyLabel, BorderLayout.NORTH);
-        bodyPanel.add(new JScrollPane(requestBodyArea), BorderLayout.CENTER);
+
+        bodyModeComboBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                if (value instanceof RequestBodyMode mode) {
+                    setText(I18n.requestBody(currentLanguage).modeName(mode));
+                }
+                return this;
+            }
+        });
+        bodyModeComboBox.addItemListener(event -> {
+            if (event.getStateChange() == ItemEvent.SELECTED) {
+                updateBodyModeControls();
+            }
+        });
+        bodyFileButton.addActionListener(event -> chooseRequestBodyFile());
+        generatedLinesSpinner.setPreferredSize(new Dimension(120, generatedLinesSpinner.getPreferredSize().height));
+
+        JPanel bodyControls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        bodyControls.add(bodyFileLabel);
+        bodyControls.add(bodyFileButton);
+        bodyControls.add(generatedLinesLabel);
+        bodyControls.add(generatedLinesSpinner);
+        bodyControls.add(bodyModeComboBox);
+
+        JPanel bodyHeader = new JPanel(new BorderLayout(8, 0));
+        bodyHeader.add(requestBodyLabel, BorderLayout.WEST);
+        bodyHeader.add(bodyControls, BorderLayout.EAST);
+        bodyPanel.add(bodyHeader, BorderLayout.NORTH);
+        formFieldsPanel = new FormFieldsPanel(currentLanguage);
+        bodyEditorCards.add(new JScrollPane(requestBodyArea), "text");
+        bodyEditorCards.add(formFieldsPanel, "form");
+        bodyPanel.add(bodyEditorCards, BorderLayout.CENTER);
         return bodyPanel;
     }
 
     private JComponent createResultPanel() {
-        rawRequestArea.setEditable(false);
-        rawResponseArea.setEditable(false);
-        rawRequestArea.setLineWrap(false);
-        rawRequestArea.setWrapStyleWord(false);
-        rawResponseArea.setLineWrap(false);
-        rawResponseArea.setWrapStyleWord(false);
-
         resultTabs.removeAll();
+        lazyTabFactories.clear();
         resultTabs.setTabLayoutPolicy(JTabbedPane.SCROLL_TAB_LAYOUT);
         resultTabs.setFocusable(false);
         resultTabs.addTab("", createScrollPaneForTab(jsonResponsePane));
-        resultTabs.addTab("", createScrollPaneForTab(jsonTree));
-        resultTabs.addTab("", createScrollPaneForTab(rawRequestArea));
-        resultTabs.addTab("", createScrollPaneForTab(rawResponseArea));
-        resultTabs.setSelectedIndex(0);
+        addLazyTab(this::createJsonTreeTab);
+        addLazyTab(this::createSchemaTab);
+        addLazyTab(this::createJsonTableTab);
+        addLazyTab(this::createRawRequestTab);
+        addLazyTab(this::createRawResponseTab);
+        addLazyTab(this::createStreamTab);
+        addLazyTab(this::createWebSocketTab);
+        addLazyTab(this::createMetricsTab);
+        addLazyTab(this::createQueryTab);
+        resultTabs.addChangeListener(event -> {
+            materializeTab(resultTabs.getSelectedIndex());
+            refreshResponseViews();
+        });
+        resultTabs.setSelectedIndex(JSON_FORMATTED_TAB_INDEX);
+
+        renderBanner.setBorder(new EmptyBorder(0, 0, 6, 0));
+        renderBanner.add(renderBannerLabel, BorderLayout.CENTER);
+        renderBanner.add(renderFullyButton, BorderLayout.EAST);
+        renderBanner.setVisible(false);
+        renderFullyButton.addActionListener(event -> renderFully());
+
+        JPanel resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(renderBanner, BorderLayout.NORTH);
+        resultPanel.add(resultTabs, BorderLayout.CENTER);
+        return resultPanel;
+    }
+
+    private void addLazyTab(Supplier<JComponent> factory) {
+        lazyTabFactories.put(resultTabs.getTabCount(), factory);
+        resultTabs.addTab("", new JPanel());
+    }
+
+    private void materializeTab(int index) {
+        Supplier<JComponent> factory = lazyTabFactories.remove(index);
+        if (factory != null) {
+            resultTabs.setComponentAt(index, factory.get());
+        }
+    }
+
+    private JComponent createJsonTreeTab() {
+        jsonTree = createJsonTree();
+        installCodeFontZoom("jsonTree", jsonTree);
+        updateCodeFontForComponent(jsonTree);
+        updateJsonTree(lastFormattedBody);
+        updateMemoryUsage();
+        return createScrollPaneForTab(jsonTree);
+    }
+
+    private JComponent createSchemaTab() {
+        schemaPanel = new SchemaPanel(jsonMapper.getFactory(), metrics, currentLanguage);
+        return schemaPanel;
+    }
+
+    private JComponent createJsonTableTab() {
+        tablePanel = new JsonTablePanel(jsonMapper.getFactory(), metrics, memoryBudget, currentLanguage);
+        return tablePanel;
+    }
+
+    // Views derived from the whole body are rebuilt only while visible, at most once per response.
+    private void refreshResponseViews() {
+        int selected = resultTabs.getSelectedIndex();
+        if (treeDropped && jsonTree != null && selected == JSON_TREE_TAB_INDEX) {
+            updateJsonTree(lastFormattedBody);
+            updateMemoryUsage();
+        }
+        if (tablePanel != null && selected == JSON_TABLE_TAB_INDEX) {
+            tablePanel.load(responseVersion, currentBodySource());
+        }
+        if (schemaPanel != null && selected == SCHEMA_TAB_INDEX) {
+            schemaPanel.load(responseVersion, currentBodySource());
+        }
+    }
+
+    private JComponent createRawRequestTab() {
+        rawRequestArea = createRawTextViewer("rawRequest", lastRawRequest);
+        return createScrollPaneForTab(rawRequestArea);
+    }
+
+    private JComponent createRawResponseTab() {
+        rawResponseArea = createRawTextViewer("rawResponse", lastRawResponse);
+        return createScrollPaneForTab(rawResponseArea);
+    }
 
-        return resultTabs;
+    private JComponent createStreamTab() {
+        LargeTextViewer detailViewer = new LargeTextViewer(TEXT_AREA_ROWS / 2, TEXT_AREA_COLUMNS);
+        installCodeFontZoom("streamRecord", detailViewer);
+        updateCodeFontForComponent(detailViewer);
+        streamPanel = new StreamPanel(jsonFormatter, detailViewer, currentLanguage);
+        return streamPanel;
+    }
+
+    private JComponent createWebSocketTab() {
+        LargeTextViewer detailViewer = new LargeTextViewer(TEXT_AREA_ROWS / 2, TEXT_AREA_COLUMNS);
+        installCodeFontZoom("webSocketMessage", detailViewer);
+        updateCodeFontForComponent(detailViewer);
+        webSocketPanel = new WebSocketPanel(httpClientService, () -> urlField.getText(), detailViewer, STREAM_RETENTION, currentLanguage);
+        return webSocketPanel;
+    }
+
+    private JComponent createMetricsTab() {
+        metricsPanel = new MetricsPanel(metrics, currentLanguage);
+        return metricsPanel;
+    }
+
+    private JComponent createQueryTab() {
+        LargeTextViewer resultViewer = new LargeTextViewer(TEXT_AREA_ROWS / 2, TEXT_AREA_COLUMNS);
+        installCodeFontZoom("queryResult", resultViewer);
+        updateCodeFontForComponent(resultViewer);
+        queryPanel = new JsonQueryPanel(jsonMapper.getFactory(), this::currentBodySource, resultViewer, metrics, currentLanguage);
+        return queryPanel;
+    }
+
+    // Spilled bodies are queried straight from disk; the in-memory ones from the formatted text already held.
+    private JsonQuery.Source currentBodySource() {
+        Path file = spilledBody;
+        if (file != null) {
+            return factory -> factory.createParser(file.toFile());
+        }
+        String body = lastFormattedBody;
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        return factory -> factory.createParser(body);
+    }
+
+    private LargeTextViewer createRawTextViewer(String id, String text) {
+        LargeTextViewer viewer = new LargeTextViewer(TEXT_AREA_ROWS / 2, TEXT_AREA_COLUMNS);
+        viewer.setLineWrap(rawWrapMenuItem.isSelected());
+        viewer.setComponentPopupMenu(createRawPopupMenu());
+        installCodeFontZoom(id, viewer);
+        updateCodeFontForComponent(viewer);
+        viewer.setText(text);
+        return viewer;
+    }
+
+    private JPopupMenu createRawPopupMenu() {
+        JPopupMenu menu = new JPopupMenu();
+        JCheckBoxMenuItem wrapItem = new JCheckBoxMenuItem(rawWrapMenuItem.getText(), rawWrapMenuItem.isSelected());
+        wrapItem.setModel(rawWrapMenuItem.getModel());
+        menu.add(wrapItem);
+        return menu;
+    }
+
+    private void applyRawLineWrap() {
+        boolean wrap = rawWrapMenuItem.isSelected();
+        if (rawRequestArea != null) {
+            rawRequestArea.setLineWrap(wrap);
+        }
+        if (rawResponseArea != null) {
+            rawResponseArea.setLineWrap(wrap);
+        }
+    }
+
+    private void showRawRequest(String text) {
+        lastRawRequest = text != null ? text : "";
+        if (rawRequestArea != null) {
+            rawRequestArea.setText(lastRawRequest);
+        }
+        updateMemoryUsage();
+    }
+
+    private void showRawResponse(String text) {
+        lastRawResponse = text != null ? text : "";
+        if (rawResponseArea != null) {
+            rawResponseArea.setText(lastRawResponse);
+        }
+        updateMemoryUsage();
     }
 
     private JPanel createStatusPanel() {
@@ -509,49 +870,136 @@ public class HttpClientPanel extends JPanel {
         statusLabel.setHorizontalAlignment(SwingConstants.LEFT);
         statusCodeLabel.setHorizontalAlignment(SwingConstants.RIGHT);
         statusPanel.add(statusLabel, BorderLayout.WEST);
-        statusPanel.add(statusCodeLabel, BorderLayout.EAST);
+        JPanel eastPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 12, 0));
+        eastPanel.add(memoryLabel);
+        eastPanel.add(limiterLabel);
+        eastPanel.add(statusCodeLabel);
+        statusPanel.add(eastPanel, BorderLayout.EAST);
+        limiterTimer = new Timer(LIMITER_REFRESH_MS, e -> {
+            refreshLimiterUsage();
+            refreshMemoryUsage();
+        });
+        limiterTimer.start();
+
+        JPanel downloadPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        downloadProgressBar.setPreferredSize(new Dimension(160, downloadProgressBar.getPreferredSize().height));
+        downloadPanel.add(downloadProgressLabel);
+        downloadPanel.add(downloadProgressBar);
+        downloadProgressBar.setVisible(false);
+        downloadProgressLabel.setVisible(false);
+        downloadPanel.add(timingLabel);
+        statusPanel.add(downloadPanel, BorderLayout.CENTER);
         return statusPanel;
     }
 
+    private void preconnect() {
+        String urlTemplate = urlField.getText().trim();
+        if (!settings.isPreconnectEnabled() || urlTemplate.isEmpty()) {
+            return;
+        }
+        httpClientService.preconnect(Template.cached(urlTemplate).render(environments.resolver()));
+    }
+
+    private void refreshLimiterUsage() {
+        HttpClientService.LimiterUsage usage = httpClientService.limiterUsage();
+        LimiterTexts texts = I18n.limiter(currentLanguage);
+        StringBuilder text = new StringBuilder(String.format(texts.usagePattern(), usage.inFlight(),
+                usage.maxConcurrent() > 0 ? String.valueOf(usage.maxConcurrent()) : "∞"));
+        if (usage.waiting() > 0) {
+            text.append(String.format(texts.waitingPattern(), usage.waiting()));
+        }
+        if (usage.requestsPerSecondPerHost() > 0) {
+            text.append(String.format(texts.ratePattern(), formatRate(usage.requestsPerSecondPerHost())));
+        }
+        String value = text.toString();
+        if (!value.equals(limiterLabel.getText())) {
+            limiterLabel.setText(value);
+        }
+    }
+
+    private void refreshMemoryUsage() {
+        MemoryBudget.Usage usage = memoryBudget.usage();
+        MemoryTexts texts = I18n.memory(currentLanguage);
+        String value = String.format(texts.usagePattern(), ByteSizes.format(usage.used()), ByteSizes.format(usage.limit()));
+        String breakdown = String.format(texts.breakdownPattern(),
+                ByteSizes.format(usage.byKind().get(MemoryBudget.Kind.HIGHLIGHT)),
+                ByteSizes.format(usage.byKind().get(MemoryBudget.Kind.TREE)),
+                ByteSizes.format(usage.byKind().get(MemoryBudget.Kind.TABLE)),
+                ByteSizes.format(usage.byKind().get(MemoryBudget.Kind.RESPONSE)),
+                usage.evictions());
+        if (!value.equals(memoryLabel.getText())) {
+            memoryLabel.setText(value);
+        }
+        if (!breakdown.equals(memoryLabel.getToolTipText())) {
+            memoryLabel.setToolTipText(breakdown);
+        }
+    }
+
+    private static String formatRate(double rate) {
+        return rate == Math.rint(rate) ? String.valueOf((long) rate) : String.format("%.1f", rate);
+    }
+
     private void executeRequest() {
-        String url = urlField.getText().trim();
+        String urlTemplate = urlField.getText().trim();
         HttpMethod method = (HttpMethod) methodComboBox.getSelectedItem();
-        String body = requestBodyArea.getText();
 
-        if (url.isEmpty()) {
+        if (urlTemplate.isEmpty()) {
             showStatusUrlRequired();
             return;
         }
 
-        if (method != null && method.allowsBody()) {
-            body = formatRequestBodyIfJson(body, true);
-        } else {
-            body = "";
+        Function<String, String> variables = environments.resolver();
+        String url = Template.cached(urlTemplate).render(variables);
+        RequestBody body;
+        try {
+            body = buildRequestBody(method, variables);
+        } catch (IOException ex) {
+            showStatusErrorWithDetail(ex.getMessage());
+            return;
         }
 
         lastStatusCode = -1;
+        firePropertyChange(REQUEST_TITLE_PROPERTY, null, requestTitle());
+
+        if (streamCheckBox.isSelected()) {
+            startStream(method, url, body);
+            return;
+        }
 
         sendButton.setEnabled(false);
         showStatusCalling();
+        downloadProgressBar.setVisible(false);
+        downloadProgressLabel.setVisible(false);
+        timingLabel.setText("");
 
-        String requestBodyToSend = body;
+        RequestBody requestBodyToSend = body;
 
         SwingWorker<HttpInteractionResult, Void> worker = new SwingWorker<>() {
             @Override
             protected HttpInteractionResult doInBackground() {
-                return httpClientService.execute(method, url, requestBodyToSend);
+                return httpClientService.execute(method, url, requestBodyToSend, (received, total, rate) ->
+                        SwingUtilities.invokeLater(() -> showDownloadProgress(received, total, rate)));
             }
 
             @Override
             protected void done() {
+                MetricsRegistry.Sample render = renderTimer.start();
+                responseVersion++;
+                applyingResponse = true;
                 try {
                     HttpInteractionResult result = get();
-                    updateJsonDisplay(result.formattedBody());
-                    rawRequestArea.setText(result.rawRequest());
-                    rawRequestArea.setCaretPosition(0);
-                    rawResponseArea.setText(result.rawResponse());
-                    rawResponseArea.setCaretPosition(0);
+                    showRawRequest(result.rawRequest());
                     lastStatusCode = result.statusCode();
+                    showTiming(result.timing(), result.attempts());
+                    if (result.isDownload()) {
+                        applyRenderPlan(RenderStrategy.FULL, 0, null);
+                        showDownloadResult(result);
+                        return;
+                    }
+                    long received = result.timing() != null ? result.timing().bytesReceived() : 0;
+                    applyRenderPlan(RenderStrategy.forSize(received), received, result.spilledBody());
+                    updateJsonDisplay(result.formattedBody());
+                    showRawResponse(result.rawResponse());
                     boolean hasError = result.hasError();
                     if (hasError) {
                         showCustomStatus(result.errorMessage(), true);
@@ -559,15 +1007,17 @@ public class HttpClientPanel extends JPanel {
                         showStatusCompleted();
                     }
                 } catch (Exception ex) {
+                    applyRenderPlan(RenderStrategy.FULL, 0, null);
                     updateJsonDisplay("");
-                    rawRequestArea.setText("");
-                    rawRequestArea.setCaretPosition(0);
-                    rawResponseArea.setText("");
-                    rawResponseArea.setCaretPosition(0);
+                    showRawRequest("");
+                    showRawResponse("");
                     lastStatusCode = -1;
                     showStatusErrorWithDetail(ex.getMessage());
                 } finally {
                     sendButton.setEnabled(true);
+                    refreshResponseViews();
+                    finishApplyingResponse();
+                    render.stop();
                 }
             }
         };
@@ -575,13 +1025,487 @@ public class HttpClientPanel extends JPanel {
         worker.execute();
     }
 
-    private void toggleRequestBody() {
+    private void applyRenderPlan(RenderStrategy strategy, long bytes, Path body) {
+        if (spilledBody != null && !spilledBody.equals(body)) {
+            try {
+                Files.deleteIfExists(spilledBody);
+            } catch (IOException ex) {
+                // Left for deleteOnExit.
+            }
+        }
+        renderStrategy = strategy;
+        renderedBytes = bytes;
+        spilledBody = body;
+        highlightDropped = false;
+        updateRenderBanner();
+    }
+
+    private void updateRenderBanner() {
+        RenderTexts texts = I18n.render(currentLanguage);
+        renderFullyButton.setText(texts.renderFullyButton());
+        String size = ByteSizes.format(renderedBytes);
+        String message = switch (renderStrategy) {
+            case FULL -> null;
+            case PLAIN -> String.format(texts.plainPattern(), size);
+            case COLLAPSED -> String.format(texts.collapsedPattern(), size);
+            case PREVIEW -> String.format(texts.previewPattern(), size, ByteSizes.format(RenderStrategy.PREVIEW_CHARS));
+            case RAW_ONLY -> String.format(texts.rawOnlyPattern(), size, ByteSizes.format(RenderStrategy.RAW_PREVIEW_BYTES));
+        };
+        if (highlightDropped) {
+            message = String.format(I18n.memory(currentLanguage).highlightDroppedPattern(), ByteSizes.format(memoryBudget.usage().limit()));
+        }
+        renderBannerLabel.setText(message != null ? message : "");
+        renderBanner.setVisible(message != null);
+    }
+
+    private void renderFully() {
+        RenderTexts texts = I18n.render(currentLanguage);
+        Path file = spilledBody;
+        if (file == null) {
+            applyingResponse = true;
+            applyRenderPlan(RenderStrategy.FULL, renderedBytes, null);
+            updateJsonDisplay(lastFormattedBody);
+            finishApplyingResponse();
+            return;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        long needed = renderedBytes * FULL_RENDER_MEMORY_FACTOR;
+        if (needed > available) {
+            showCustomStatus(String.format(texts.notEnoughMemoryPattern(), ByteSizes.format(renderedBytes),
+                    ByteSizes.format(needed), ByteSizes.format(available)), true);
+            return;
+        }
+        renderFullyButton.setEnabled(false);
+        showCustomStatus(texts.renderingStatus(), false);
+        SwingWorker<String, Void> worker = new SwingWorker<>() {
+            @Override
+            protected String doInBackground() throws IOException {
+                return httpClientService.formatSpilledBody(file);
+            }
+
+            @Override
+            protected void done() {
+                renderFullyButton.setEnabled(true);
+                if (!file.equals(spilledBody)) {
+                    return;
+                }
+                try {
+                    String formatted = get();
+                    applyingResponse = true;
+                    applyRenderPlan(RenderStrategy.FULL, renderedBytes, file);
+                    updateJsonDisplay(formatted);
+                    finishApplyingResponse();
+                    showStatusCompleted();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    String detail = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                    showCustomStatus(String.format(texts.failedPattern(), detail), true);
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void showTiming(RequestTiming timing, AttemptSummary attempts) {
+        if (timing == null) {
+            timingLabel.setText("");
+            return;
+        }
+        TimingTexts texts = I18n.timing(currentLanguage);
+        StringBuilder text = new StringBuilder(String.format(texts.summaryPattern(), timing.headersMillis(), timing.totalMillis()));
+        if (timing.connection() != null) {
+            text.append(switch (timing.connection()) {
+                case NEW -> texts.newConnection();
+                case REUSED -> texts.reusedConnection();
+                case PRECONNECTED -> texts.preconnectedConnection();
+            });
+        }
+        if (timing.bytesSent() > 0) {
+            text.append(String.format(texts.uploadPattern(), ByteSizes.format(timing.bytesSent()), ByteSizes.format(timing.uploadBytesPerSecond())));
+        }
+        text.append(String.format(texts.downloadPattern(), ByteSizes.format(timing.bytesReceived()), ByteSizes.format(timing.downloadBytesPerSecond())));
+        if (attempts != null && !attempts.isTrivial()) {
+            text.append(String.format(texts.attemptsPattern(), attempts.attempts(), attempts.hedgesSent(), attempts.wastedMillis()));
+        }
+        timingLabel.setText(text.toString());
+    }
+
+    private void showDownloadProgress(long received, long total, double bytesPerSecond) {
+        DownloadTexts texts = I18n.download(currentLanguage);
+        downloadProgressBar.setVisible(true);
+        downloadProgressLabel.setVisible(true);
+        if (total > 0) {
+            downloadProgressBar.setIndeterminate(false);
+            downloadProgressBar.setValue((int) Math.min(100, received * 100 / total));
+            downloadProgressLabel.setText(String.format(texts.progressPattern(),
+                    ByteSizes.format(received), ByteSizes.format(total), ByteSizes.format(bytesPerSecond)));
+        } else {
+            downloadProgressBar.setIndeterminate(true);
+            downloadProgressLabel.setText(String.format(texts.progressUnknownPattern(),
+                    ByteSizes.format(received), ByteSizes.format(bytesPerSecond)));
+        }
+    }
+
+    private void showDownloadResult(HttpInteractionResult result) {
+        DownloadTexts texts = I18n.download(currentLanguage);
+        FileDownloadSubscriber.FileDownload download = result.download();
+        showDownloadProgress(download.bytes(), download.bytes(), download.bytesPerSecond());
+        downloadProgressBar.setIndeterminate(false);
+        downloadProgressBar.setValue(100);
+        updateJsonDisplay(String.format(texts.savedPattern(), ByteSizes.format(download.bytes()),
+                ByteSizes.format(download.bytesPerSecond()), download.file().toAbsolutePath()));
+        showRawResponse(result.rawResponse() + System.lineSeparator()
+                + String.format(texts.hexPreviewPattern(), ByteSizes.format(download.preview().length), ByteSizes.format(download.bytes()))
+                + System.lineSeparator() + System.lineSeparator()
+                + HexDump.format(download.preview()));
+        showCustomStatus(texts.statusCompleted(), false);
+    }
+
+    private void startStream(HttpMethod method, String url, RequestBody body) {
+        materializeTab(STREAM_TAB_INDEX);
+        resultTabs.setSelectedIndex(STREAM_TAB_INDEX);
+        showRawRequest(httpClientService.describeRequest(method, url, body, true));
+        showRawResponse("");
+        showStatusCalling();
+        try {
+            StreamingSession session = httpClientService.openStream(method, url, body, STREAM_RETENTION, new StreamingSession.Listener() {
+                @Override
+                public void onOpen(HttpResponse<?> response, boolean serverSentEvents) {
+                    String head = httpClientService.describeResponseHead(response);
+                    SwingUtilities.invokeLater(() -> {
+                        lastStatusCode = response.statusCode();
+                        showRawResponse(head);
+                        showCustomStatus(I18n.stream(currentLanguage).statusStreaming(), false);
+                    });
+                }
+
+                @Override
+                public void onClosed(Throwable error) {
+                    SwingUtilities.invokeLater(() -> {
+                        if (error != null) {
+                            showStatusErrorWithDetail(error.getMessage());
+                        } else {
+                            showCustomStatus(I18n.stream(currentLanguage).statusClosed(), false);
+                        }
+                    });
+                }
+            });
+            streamPanel.attach(session);
+        } catch (URISyntaxException | IOException | IllegalArgumentException ex) {
+            showStatusErrorWithDetail(ex.getMessage());
+        }
+    }
+
+    private RequestBody buildRequestBody(HttpMethod method, Function<String, String> variables) throws IOException {
+        return createRequestBodyFactory(method).create(variables);
+    }
+
+    private BatchRunner.BodyFactory createRequestBodyFactory(HttpMethod method) throws IOException {
+        if (method == null || !method.allowsBody()) {
+            return variables -> RequestBody.none();
+        }
+        RequestBodyMode mode = (RequestBodyMode) bodyModeComboBox.getSelectedItem();
+        if (mode == RequestBodyMode.FILE) {
+            if (requestBodyFile == null) {
+                throw new FileNotFoundException(I18n.requestBody(currentLanguage).fileRequired());
+            }
+            RequestBody file = RequestBody.file(requestBodyFile);
+            return variables -> file;
+        }
+        if (mode == RequestBodyMode.GENERATED) {
+            Template line = Template.compile(requestBodyArea.getText());
+            long count = ((Number) generatedLinesSpinner.getValue()).longValue();
+            return variables -> RequestBody.generated(compactLine(line.render(variables)), count);
+        }
+        if (mode == RequestBodyMode.FORM || mode == RequestBodyMode.MULTIPART) {
+            boolean multipart = mode == RequestBodyMode.MULTIPART;
+            List<FieldTemplate> fields = new ArrayList<>();
+            for (RequestBody.FormField field : formFieldsPanel.fields(multipart)) {
+                fields.add(new FieldTemplate(Template.cached(field.name()), Template.cached(field.value()), field.file()));
+            }
+            return variables -> {
+                List<RequestBody.FormField> rendered = new ArrayList<>(fields.size());
+                for (FieldTemplate field : fields) {
+                    String name = field.name().render(variables);
+                    rendered.add(field.file() != null
+                            ? RequestBody.FormField.file(name, field.file())
+                            : RequestBody.FormField.text(name, field.value().render(variables)));
+                }
+                return multipart ? RequestBody.multipart(rendered) : RequestBody.form(rendered);
+            };
+        }
+        Template text = Template.compile(formatRequestBodyIfJson(requestBodyArea.getText(), true));
+        return variables -> RequestBody.json(text.render(variables));
+    }
+
+    public String requestTitle() {
+        String url = urlField.getText().trim();
+        int scheme = url.indexOf("://");
+        if (scheme >= 0) {
+            url = url.substring(scheme + 3);
+        }
+        if (url.length() > 40) {
+            url = url.substring(0, 39) + "…";
+        }
+        HttpMethod method = (HttpMethod) methodComboBox.getSelectedItem();
+        return method != null ? method.name() + " " + url : url;
+    }
+
+    public long estimatedBytes() {
+        long bytes = responseMemory.bytes() + highlightMemory.bytes() + treeMemory.bytes();
+        if (tablePanel != null) {
+            bytes += tablePanel.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    private void updateMemoryUsage() {
+        int documentChars = jsonDocument.getLength();
+        responseMemory.resize(2L * (lastFormattedBody.length() + lastRawRequest.length() + lastRawResponse.length())
+                + (long) documentChars * DOCUMENT_BYTES_PER_CHAR);
+        treeMemory.resize(jsonTreeModel.hasJson() ? (long) lastFormattedBody.length() * TREE_BYTES_PER_CHAR : 0);
+        highlightMemory.resize(renderStrategy.highlights() ? (long) documentChars * HIGHLIGHT_BYTES_PER_CHAR : 0);
+    }
+
+    // While a response is being applied its document, tree and raw texts grow one after another; this tab's views
+    // are kept out of eviction until they are all in place, then the budget runs again with the final sizes.
+    private void finishApplyingResponse() {
+        applyingResponse = false;
+        memoryBudget.enforce();
+    }
+
+    // Budget evictors, cheapest to rebuild first. Re-inserting the text plain drops the per-token elements and the
+    // banner offers to highlight again; a dropped tree is parsed again the next time its tab is shown; a tab that is
+    // not on screen is hibernated as if it had been idle.
+    private boolean dropHighlighting() {
+        if (applyingResponse || !renderStrategy.highlights() || jsonDocument.getLength() == 0) {
+            return false;
+        }
+        applyRenderPlan(RenderStrategy.PLAIN, renderedBytes, spilledBody);
+        highlightDropped = true;
+        updateRenderBanner();
+        setJsonText(lastFormattedBody);
+        updateMemoryUsage();
+        return true;
+    }
+
+    private boolean dropTree() {
+        if (applyingResponse || !jsonTreeModel.hasJson()) {
+            return false;
+        }
+        jsonTreeModel.setPlaceholder(JsonTreeModel.Placeholder.EVICTED);
+        treeDropped = true;
+        updateMemoryUsage();
+        return true;
+    }
+
+    private boolean hibernateInBackground() {
+        return !isShowing() && hibernate();
+    }
+
+    public boolean isHibernated() {
+        return hibernator.isHibernated();
+    }
+
+    public long hibernatedBytes() {
+        return hibernator.hibernatedBytes();
+    }
+
+    // Nothing to do while a request is running or when there is no response yet.
+    public boolean hibernate() {
+        if (!sendButton.isEnabled() || (lastFormattedBody.isEmpty() && lastRawRequest.isEmpty() && lastRawResponse.isEmpty())) {
+            return false;
+        }
+        return hibernator.hibernate(new ResponseSnapshot(lastFormattedBody, lastRawRequest, lastRawResponse));
+    }
+
+    public void restore() {
+        hibernator.restore();
+        // A hibernation called off here never releases anything; reporting the current sizes settles the budget.
+        updateMemoryUsage();
+    }
+
+    private void applySnapshot(ResponseSnapshot snapshot) {
+        applyingResponse = true;
+        updateJsonDisplay(snapshot.formattedBody());
+        showRawRequest(snapshot.rawRequest());
+        showRawResponse(snapshot.rawResponse());
+        refreshResponseViews();
+        finishApplyingResponse();
+    }
+
+    public void dispose() {
+        hibernator.discard();
+        applyRenderPlan(RenderStrategy.FULL, 0, null);
+        limiterTimer.stop();
+        if (metricsPanel != null) {
+            metricsPanel.dispose();
+        }
+        if (streamPanel != null) {
+            streamPanel.dispose();
+        }
+        if (webSocketPanel != null) {
+            webSocketPanel.dispose();
+        }
+        if (tablePanel != null) {
+            tablePanel.dispose();
+        }
+        highlightMemory.close();
+        treeMemory.close();
+        responseMemory.close();
+    }
+
+    private void releaseResponseViews() {
+        lastFormattedBody = "";
+        lastRawRequest = "";
+        lastRawResponse = "";
+        // Cleared while detached: the pane's views otherwise keep the old paragraph elements reachable.
+        jsonResponsePane.setDocument(new DefaultStyledDocument(styleContext));
+        setJsonText("");
+        jsonResponsePane.setDocument(jsonDocument);
+        jsonTreeModel.setPlaceholder(JsonTreeModel.Placeholder.NO_DATA);
+        if (rawRequestArea != null) {
+            rawRequestArea.setText("");
+        }
+        if (rawResponseArea != null) {
+            rawResponseArea.setText("");
+        }
+        if (tablePanel != null) {
+            tablePanel.release();
+        }
+        updateMemoryUsage();
+    }
+
+    public void openBatchDialog() {
+        Window owner = SwingUtilities.getWindowAncestor(this);
+        BatchDialog dialog = new BatchDialog(owner instanceof Frame frame ? frame : null, httpClientService,
+                jsonMapper.getFactory(), this::createBatchConfigTemplate, currentLanguage);
+        dialog.setVisible(true);
+    }
+
+    public void openCapacityDialog() {
+        Window owner = SwingUtilities.getWindowAncestor(this);
+        CapacityDialog dialog = new CapacityDialog(owner instanceof Frame frame ? frame : null, httpClientService,
+                this::createBatchConfigTemplate, currentLanguage);
+        dialog.setVisible(true);
+    }
+
+    private BatchRunner.Config createBatchConfigTemplate() {
+        String urlTemplate = urlField.getText().trim();
+        HttpMethod method = (HttpMethod) methodComboBox.getSelectedItem();
+        if (urlTemplate.isEmpty()) {
+            showStatusUrlRequired();
+            return null;
+        }
+        try {
+            return new BatchRunner.Config(method, urlTemplate, createRequestBodyFactory(method), environments.resolver(),
+                    null, null, 0, 0, false);
+        } catch (IOException ex) {
+            showStatusErrorWithDetail(ex.getMessage());
+            return null;
+        }
+    }
+
+    private void refreshEnvironmentCombo() {
+        EnvironmentTexts texts = I18n.environments(currentLanguage);
+        updatingEnvironmentCombo = true;
+        try {
+            environmentComboBox.removeAllItems();
+            environmentComboBox.addItem(texts.noEnvironment());
+            for (Environment environment : environments.getEnvironments()) {
+                environmentComboBox.addItem(environment.getName());
+            }
+            Environment active = environments.getActiveEnvironment();
+            environmentComboBox.setSelectedIndex(active != null ? environments.getEnvironments().indexOf(active) + 1 : 0);
+        } finally {
+            updatingEnvironmentCombo = false;
+        }
+    }
+
+    private void selectEnvironment() {
+        if (updatingEnvironmentCombo) {
+            return;
+        }
+        int index = environmentComboBox.getSelectedIndex();
+        String active = index > 0 ? environments.getEnvironments().get(index - 1).getName() : null;
+        if (!Objects.equals(active, environments.getActive())) {
+            environments.setActive(active);
+            saveEnvironments();
+            preconnect();
+        }
+    }
+
+    private void editEnvironments() {
+        Window owner = SwingUtilities.getWindowAncestor(this);
+        EnvironmentsDialog dialog = new EnvironmentsDialog(owner instanceof Frame frame ? frame : null, environments, currentLanguage, updated -> {
+            environments.copyFrom(updated);
+            saveEnvironments();
+            refreshEnvironmentCombo();
+        });
+        dialog.setVisible(true);
+    }
+
+    private void saveEnvironments() {
+        environmentManager.save(environments);
+        firePropertyChange(ENVIRONMENTS_PROPERTY, null, environments);
+    }
+
+    // Another tab edited or switched the shared Environments.
+    public void environmentsChanged() {
+        refreshEnvironmentCombo();
+    }
+
+    private String compactLine(String text) {
+        try {
+            return jsonMapper.readTree(text).toString();
+        } catch (JsonProcessingException ex) {
+            return text.replace('\n', ' ').replace('\r', ' ');
+        }
+    }
+
+    private void chooseRequestBodyFile() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle(I18n.requestBody(currentLanguage).fileDialogTitle());
+        if (requestBodyFile != null) {
+            chooser.setSelectedFile(requestBodyFile.toFile());
+        }
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        requestBodyFile = chooser.getSelectedFile().toPath();
+        bodyFileLabel.setText(requestBodyFile.getFileName().toString());
+        bodyFileLabel.setToolTipText(requestBodyFile.toAbsolutePath().toString());
+    }
+
+    private void updateBodyModeControls() {
         HttpMethod selected = (HttpMethod) methodComboBox.getSelectedItem();
         boolean bodyEnabled = selected != null && selected.allowsBody();
-        requestBodyArea.setEnabled(bodyEnabled);
-        requestBodyArea.setEditable(bodyEnabled);
-        requestBodyArea.setBackground(bodyEnabled ? UIManager.getColor("TextArea.background") :
+        RequestBodyMode mode = (RequestBodyMode) bodyModeComboBox.getSelectedItem();
+        bodyModeComboBox.setEnabled(bodyEnabled);
+        bodyFileButton.setVisible(mode == RequestBodyMode.FILE);
+        bodyFileLabel.setVisible(mode == RequestBodyMode.FILE);
+        bodyFileButton.setEnabled(bodyEnabled);
+        generatedLinesLabel.setVisible(mode == RequestBodyMode.GENERATED);
+        generatedLinesSpinner.setVisible(mode == RequestBodyMode.GENERATED);
+        generatedLinesSpinner.setEnabled(bodyEnabled);
+        boolean formMode = mode == RequestBodyMode.FORM || mode == RequestBodyMode.MULTIPART;
+        formFieldsPanel.setMultipart(mode == RequestBodyMode.MULTIPART);
+        formFieldsPanel.setEnabled(bodyEnabled);
+        ((CardLayout) bodyEditorCards.getLayout()).show(bodyEditorCards, formMode ? "form" : "text");
+        boolean textEnabled = bodyEnabled && mode != RequestBodyMode.FILE;
+        requestBodyArea.setEnabled(textEnabled);
+        requestBodyArea.setEditable(textEnabled);
+        requestBodyArea.setBackground(textEnabled ? UIManager.getColor("TextArea.background") :
                 UIManager.getColor("Panel.background"));
+    }
+
+    private void toggleRequestBody() {
+        HttpMethod selected = (HttpMethod) methodComboBox.getSelectedItem();
+        boolean bodyEnabled = selected != null && selected.allowsBody();
+        updateBodyModeControls();
         if (!bodyEnabled) {
             requestBodyArea.setText("");
             requestBodyArea.setCaretPosition(0);
@@ -637,18 +1561,18 @@ public class HttpClientPanel extends JPanel {
 
 
     private JTree createJsonTree() {
-        PanelTexts texts = I18n.panel(currentLanguage);
-        DefaultMutableTreeNode root = new DefaultMutableTreeNode(texts.jsonTreeNoData());
-        JTree tree = new JTree(new DefaultTreeModel(root));
+        JTree tree = new JTree(jsonTreeModel);
         tree.setRootVisible(true);
         tree.setShowsRootHandles(true);
         tree.setFont(baseMonospacedFont);
+        tree.setRowHeight(Math.max(16, Math.round(baseMonospacedFont.getSize2D() * 1.4f)));
         tree.setCellRenderer(new DefaultTreeCellRenderer() {
             @Override
             public Component getTreeCellRendererComponent(JTree tree, Object value, boolean sel,
                                                           boolean expanded, boolean leaf, int row,
                                                           boolean hasFocus) {
-                Component component = super.getTreeCellRendererComponent(tree, value, sel, expanded, leaf, row, hasFocus);
+                String label = JsonTreeModel.label(value, currentLanguage);
+                Component component = super.getTreeCellRendererComponent(tree, label, sel, expanded, leaf, row, hasFocus);
                 component.setFont(tree.getFont());
                 return component;
             }
@@ -661,17 +1585,33 @@ public class HttpClientPanel extends JPanel {
         applyJsonHighlight(lastFormattedBody);
         jsonResponsePane.setCaretPosition(0);
         updateJsonTree(lastFormattedBody);
+        updateMemoryUsage();
     }
 
     private void applyJsonHighlight(String text) {
-        if (text == null) {
-            text = "";
+        if (!renderStrategy.highlights()) {
+            setJsonText(text != null ? text : "");
+            return;
         }
+        highlightTimer.time(() -> highlightJson(text));
+    }
 
+    private boolean setJsonText(String text) {
         try {
             jsonDocument.remove(0, jsonDocument.getLength());
-            jsonDocument.insertString(0, text, defaultStyle);
+            jsonDocument.insertString(0, text, null);
+            return true;
         } catch (BadLocationException ex) {
+            return false;
+        }
+    }
+
+    private void highlightJson(String text) {
+        if (text == null) {
+            text = "";
+        }
+
+        if (!setJsonText(text)) {
             return;
         }
 
@@ -738,46 +1678,31 @@ public class HttpClientPanel extends JPanel {
     }
 
     private void updateJsonTree(String formattedBody) {
-        PanelTexts texts = I18n.panel(currentLanguage);
-        DefaultTreeModel model = (DefaultTreeModel) jsonTree.getModel();
+        if (jsonTree == null) {
+            return;
+        }
+        treeDropped = false;
         if (formattedBody == null || formattedBody.isBlank()) {
-            model.setRoot(new DefaultMutableTreeNode(texts.jsonTreeNoData()));
-            model.reload();
-            expandAllRows(jsonTree);
+            jsonTreeModel.setPlaceholder(JsonTreeModel.Placeholder.NO_DATA);
+            return;
+        }
+        if (!renderStrategy.buildsTree()) {
+            jsonTreeModel.setPlaceholder(JsonTreeModel.Placeholder.SKIPPED);
             return;
         }
 
+        MetricsRegistry.Sample treeBuild = treeBuildTimer.start();
         try {
-            JsonNode rootNode = jsonMapper.readTree(formattedBody);
-            DefaultMutableTreeNode treeRoot = buildTreeNode(null, rootNode, texts);
-            model.setRoot(treeRoot);
+            jsonTreeModel.setJson(jsonMapper.readTree(formattedBody));
         } catch (JsonProcessingException ex) {
-            model.setRoot(new DefaultMutableTreeNode(texts.jsonTreeInvalid()));
+            jsonTreeModel.setPlaceholder(JsonTreeModel.Placeholder.INVALID);
         }
-        model.reload();
-        expandAllRows(jsonTree);
-    }
-
-    private DefaultMutableTreeNode buildTreeNode(String name, JsonNode node, PanelTexts texts) {
-        if (node.isObject()) {
-            String label = name == null ? texts.jsonTreeObject() : name;
-            DefaultMutableTreeNode treeNode = new DefaultMutableTreeNode(label);
-            node.fields().forEachRemaining(entry -> treeNode.add(buildTreeNode(entry.getKey(), entry.getValue(), texts)));
-            return treeNode;
-        }
-
-        if (node.isArray()) {
-            String label = name == null ? texts.jsonTreeArray() : name;
-            DefaultMutableTreeNode treeNode = new DefaultMutableTreeNode(label);
-            for (int i = 0; i < node.size(); i++) {
-                treeNode.add(buildTreeNode("[" + i + "]", node.get(i), texts));
-            }
-            return treeNode;
+        if (renderStrategy.expandsTree()) {
+            expandAllRows(jsonTree);
+        } else {
+            jsonTree.expandRow(0);
         }
-
-        String value = node.isTextual() ? '"' + node.asText() + '"' : node.toString();
-        String label = name == null ? value : name + ": " + value;
-        return new DefaultMutableTreeNode(label);
+        treeBuild.stop();
     }
 
     private void expandAllRows(JTree tree) {
@@ -797,4 +1722,6 @@ public class HttpClientPanel extends JPanel {
         CUSTOM
     }
 
+    private record FieldTemplate(Template name, Template value, Path file) {
+    }
 }
@@ -1,66 +1,370 @@
 package cl.prezdev.envio;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public class HttpClientService {
 
     private static final String NEW_LINE = System.lineSeparator();
+    private static final String JSON_ACCEPT = "application/json";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String DOWNLOAD_DIRECTORY_PROPERTY = "envio.download.dir";
+    private static final List<String> TEXT_CONTENT_MARKERS = List.of(
+            "json", "xml", "javascript", "x-www-form-urlencoded", "yaml", "csv", "graphql", "event-stream");
+    private static final String STREAM_ACCEPT = "application/x-ndjson, application/jsonl, text/event-stream, application/json";
 
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final JsonStreamFormatter jsonFormatter;
+    private final MetricsRegistry.Counter requestCounter;
+    private final MetricsRegistry.Counter errorCounter;
+    private final MetricsRegistry.Counter bytesOutCounter;
+    private final MetricsRegistry.Counter bytesInCounter;
+    private final MetricsRegistry.Histogram responseSizeHistogram;
+    private final MetricsRegistry.Timer latencyTimer;
+    private final MetricsRegistry.Timer headersTimer;
+    private final MetricsRegistry.Timer formatTimer;
+    private final MetricsRegistry.Histogram downloadRateHistogram;
+    private final MetricsRegistry.Histogram uploadRateHistogram;
+    private final Path downloadDirectory;
+    private final Path spillDirectory;
+    private final ResilientSender sender;
+    private final HostRateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final MetricsRegistry.Timer admissionTimer;
+    private final Preconnector preconnector;
 
     public HttpClientService() {
+        this(MetricsRegistry.global());
+    }
+
+    public HttpClientService(MetricsRegistry metrics) {
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(20))
                 .build();
         this.objectMapper = new ObjectMapper();
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.jsonFormatter = new JsonStreamFormatter(objectMapper.getFactory());
+        this.requestCounter = metrics.counter("http.requests", "");
+        this.errorCounter = metrics.counter("http.errors", "");
+        this.bytesOutCounter = metrics.counter("http.bytes.out", "B");
+        this.bytesInCounter = metrics.counter("http.bytes.in", "B");
+        this.responseSizeHistogram = metrics.histogram("http.response.size", "B");
+        this.latencyTimer = metrics.timer("http.request.latency");
+        this.headersTimer = metrics.timer("http.request.headers");
+        this.formatTimer = metrics.timer("json.format");
+        this.downloadRateHistogram = metrics.histogram("http.download.rate", "B/s");
+        this.uploadRateHistogram = metrics.histogram("http.upload.rate", "B/s");
+        this.downloadDirectory = Path.of(System.getProperty(DOWNLOAD_DIRECTORY_PROPERTY,
+                Path.of(System.getProperty("java.io.tmpdir"), "envio-downloads").toString()));
+        this.spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "envio-spill");
+        this.rateLimiter = new HostRateLimiter(0, 1);
+        this.concurrencyLimiter = new ConcurrencyLimiter(0);
+        this.admissionTimer = metrics.timer("http.admission.wait");
+        this.sender = new ResilientSender(httpClient, metrics, headersTimer, rateLimiter, concurrencyLimiter);
+        this.preconnector = new Preconnector(httpClient, rateLimiter, metrics);
+    }
+
+    public void preconnect(String url) {
+        try {
+            preconnector.schedule(buildUri(url));
+        } catch (URISyntaxException ex) {
+            preconnector.schedule(null);
+        }
+    }
+
+    public void setLimits(double requestsPerSecondPerHost, int burst, int maxConcurrentRequests) {
+        rateLimiter.setRate(requestsPerSecondPerHost, Math.max(1, burst));
+        concurrencyLimiter.setLimit(maxConcurrentRequests);
+    }
+
+    public LimiterUsage limiterUsage() {
+        return new LimiterUsage(concurrencyLimiter.inFlight(), concurrencyLimiter.limit(), concurrencyLimiter.waiting(),
+                rateLimiter.permitsPerSecond(), rateLimiter.hostCount());
+    }
+
+    public ResiliencePolicy getResiliencePolicy() {
+        return sender.policy();
+    }
+
+    public void setResiliencePolicy(ResiliencePolicy policy) {
+        sender.setPolicy(policy);
     }
 
     public HttpInteractionResult execute(HttpMethod method, String url, String body) {
+        return execute(method, url, RequestBody.json(body), null);
+    }
+
+    public HttpInteractionResult execute(HttpMethod method, String url, RequestBody body,
+                                         FileDownloadSubscriber.ProgressListener downloadListener) {
         String rawRequest = "";
         String rawResponse = "";
+        boolean admitted = false;
+        requestCounter.increment();
         try {
             URI uri = buildUri(url);
-            HttpRequest request = buildRequest(method, uri, body);
+            HttpRequest request = buildRequest(method, uri, body, JSON_ACCEPT);
             rawRequest = buildRawRequest(method, uri, request, body);
+            long bytesSent = sendsBody(method, body) ? Math.max(0, body.contentLength()) : 0;
+            admit(uri);
+            admitted = true;
+            bytesOutCounter.add(bytesSent);
+            RequestTiming.Connection connection = preconnector.connectionState(uri);
+
+            MetricsRegistry.Sample latency = latencyTimer.start();
+            long[] headersNanos = new long[1];
+            ResilientSender.Outcome<ResponsePayload> outcome;
+            try {
+                outcome = sender.send(method, request, responseInfo -> {
+                    headersNanos[0] = System.nanoTime() - latency.startNanos();
+                    return selectBodySubscriber(uri, responseInfo, downloadListener);
+                });
+            } catch (IOException ex) {
+                preconnector.forget(uri);
+                throw ex;
+            }
+            preconnector.markUsed(uri);
+            // Hedge delays come from this timer. A retried send would add the failed attempts and their backoff.
+            if (outcome.attempts().attempts() == 1) {
+                headersTimer.record(headersNanos[0]);
+            }
+            HttpResponse<ResponsePayload> response = outcome.response();
+            FileDownloadSubscriber.FileDownload download = response.body().download();
+            if (download != null) {
+                long elapsed = latency.stop();
+                bytesInCounter.add(download.bytes());
+                responseSizeHistogram.record(download.bytes());
+                downloadRateHistogram.record((long) download.bytesPerSecond());
+                recordUploadRate(bytesSent, headersNanos[0]);
+                rawResponse = describeResponseHead(response);
+                RequestTiming timing = new RequestTiming(headersNanos[0], elapsed, bytesSent, download.bytes(), connection);
+                return HttpInteractionResult.download(download, rawRequest, rawResponse, response.statusCode(), timing, outcome.attempts());
+            }
+
+            long declaredLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            // Bodies known to fit are formatted while they download; anything else is buffered first and spills to
+            // disk past the preview threshold, so an unexpectedly large response never has to fit in the heap.
+            boolean formatWhileReading = declaredLength >= 0 && declaredLength <= RenderStrategy.PREVIEW_THRESHOLD;
+            SpillingOutputStream rawBody = new SpillingOutputStream((int) RenderStrategy.PREVIEW_THRESHOLD, spillDirectory);
+            String formattedBody = null;
+            try (InputStream bodyStream = response.body().stream(); rawBody) {
+                if (formatWhileReading) {
+                    formattedBody = formatBody(new CapturingInputStream(bodyStream, rawBody));
+                } else {
+                    bodyStream.transferTo(rawBody);
+                }
+            }
+            long received = rawBody.size();
+            bytesInCounter.add(received);
+            responseSizeHistogram.record(received);
+            recordUploadRate(bytesSent, headersNanos[0]);
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
-            rawResponse = buildRawResponse(response);
-            String formattedBody = formatBody(response.body());
+            if (rawBody.isSpilled()) {
+                long elapsed = latency.stop();
+                RequestTiming timing = new RequestTiming(headersNanos[0], elapsed, bytesSent, received, connection);
+                rawResponse = buildRawResponse(response, readTextPrefix(rawBody.file(), RenderStrategy.RAW_PREVIEW_BYTES));
+                return HttpInteractionResult.spilled(previewSpilledBody(rawBody.file(), received), rawRequest, rawResponse,
+                        response.statusCode(), timing, outcome.attempts(), rawBody.file());
+            }
 
-            return HttpInteractionResult.success(formattedBody, rawRequest, rawResponse, response.statusCode());
+            byte[] bodyBytes = rawBody.toByteArray();
+            if (!formatWhileReading) {
+                formattedBody = formatBody(new ByteArrayInputStream(bodyBytes));
+            }
+            long elapsed = latency.stop();
+            RequestTiming timing = new RequestTiming(headersNanos[0], elapsed, bytesSent, received, connection);
+
+            String responseBody = new String(bodyBytes, StandardCharsets.UTF_8);
+            rawResponse = buildRawResponse(response, responseBody);
+            if (formattedBody == null) {
+                formattedBody = responseBody.isBlank() ? "" : responseBody;
+            }
+
+            return HttpInteractionResult.success(formattedBody, rawRequest, rawResponse, response.statusCode(), timing, outcome.attempts());
         } catch (Exception exception) {
+            errorCounter.increment();
             return HttpInteractionResult.failure("Error: " + exception.getMessage(), rawRequest, rawResponse);
+        } finally {
+            if (admitted) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    // Load generators see every response as the server sent it: one attempt, no retries or hedges, so errors are
+    // counted and latencies never include backoff. Capacity samples are kept out of the service metrics, which
+    // describe interactive traffic and feed the hedging delay.
+    public ExchangeSummary exchange(HttpMethod method, String url, RequestBody body, int maxBodyBytes, ExchangeMode mode) {
+        boolean limited = mode != ExchangeMode.CAPACITY;
+        boolean recorded = mode != ExchangeMode.CAPACITY;
+        if (recorded) {
+            requestCounter.increment();
+        }
+        URI uri;
+        HttpRequest request;
+        try {
+            uri = buildUri(url);
+            request = buildRequest(method, uri, body, JSON_ACCEPT);
+            if (limited) {
+                admit(uri);
+            } else {
+                admitRate(uri);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return exchangeFailure(recorded, 0, "Interrumpido");
+        } catch (Exception ex) {
+            return exchangeFailure(recorded, 0, ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+        }
+        long start = System.nanoTime();
+        try {
+            if (recorded) {
+                bytesOutCounter.add(sendsBody(method, body) ? Math.max(0, body.contentLength()) : 0);
+            }
+            ResilientSender.Outcome<InputStream> outcome = sender.send(method, request,
+                    HttpResponse.BodyHandlers.ofInputStream(), ResiliencePolicy.none());
+            if (recorded) {
+                headersTimer.record(System.nanoTime() - start);
+            }
+            preconnector.markUsed(uri);
+            HttpResponse<InputStream> response = outcome.response();
+            ByteArrayOutputStream head = new ByteArrayOutputStream(Math.min(maxBodyBytes, 8192));
+            long received = 0;
+            try (InputStream responseStream = response.body()) {
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = responseStream.read(buffer)) > 0) {
+                    int keep = (int) Math.max(0, Math.min(count, maxBodyBytes - received));
+                    head.write(buffer, 0, keep);
+                    received += count;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (recorded) {
+                latencyTimer.record(elapsed);
+                bytesInCounter.add(received);
+                responseSizeHistogram.record(received);
+            }
+            String text = maxBodyBytes > 0 ? head.toString(StandardCharsets.UTF_8) : null;
+            return new ExchangeSummary(response.statusCode(), elapsed, received, text, null, outcome.attempts().attempts());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return exchangeFailure(recorded, System.nanoTime() - start, "Interrumpido");
+        } catch (Exception ex) {
+            return exchangeFailure(recorded, System.nanoTime() - start,
+                    ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+        } finally {
+            if (limited) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    private ExchangeSummary exchangeFailure(boolean recorded, long elapsedNanos, String message) {
+        if (recorded) {
+            errorCounter.increment();
+            if (elapsedNanos > 0) {
+                latencyTimer.record(elapsedNanos);
+            }
+        }
+        return ExchangeSummary.failure(elapsedNanos, message);
+    }
+
+    // Streams and WebSockets are not admitted through the limiters: they stay open for minutes and would hold a
+    // concurrency slot the whole time, and they are opened on the EDT, where waiting for a rate permit would freeze
+    // the window. Interactive sends and batch runs count against both limits, capacity runs only against the rate.
+    public StreamingSession openStream(HttpMethod method, String url, RequestBody body, int retention,
+                                       StreamingSession.Listener listener) throws URISyntaxException, IOException {
+        URI uri = buildUri(url);
+        HttpRequest request = buildRequest(method, uri, body, STREAM_ACCEPT);
+        StreamingSession session = new StreamingSession(retention);
+        requestCounter.increment();
+        session.start(httpClient, request, listener);
+        return session;
+    }
+
+    public WebSocketSession openWebSocket(String url, int retention, boolean formatJson,
+                                          WebSocketSession.Listener listener) throws URISyntaxException {
+        URI uri = buildUri(url);
+        WebSocketSession session = new WebSocketSession(retention, jsonFormatter, formatJson);
+        requestCounter.increment();
+        session.connect(httpClient, uri, listener);
+        return session;
+    }
+
+    public String describeRequest(HttpMethod method, String url, RequestBody body, boolean streaming) {
+        try {
+            URI uri = buildUri(url);
+            return buildRawRequest(method, uri, buildRequest(method, uri, body, streaming ? STREAM_ACCEPT : JSON_ACCEPT), body);
+        } catch (URISyntaxException | IOException | IllegalArgumentException ex) {
+            return "";
+        }
+    }
+
+    public String describeResponseHead(HttpResponse<?> response) {
+        return buildResponseHead(response).toString();
+    }
+
+    // The first attempt is admitted here, outside the latency sample; retries and hedges are admitted by the sender.
+    private void admit(URI uri) throws InterruptedException {
+        if (concurrencyLimiter.isUnlimited() && rateLimiter.isUnlimited()) {
+            concurrencyLimiter.tryAcquire();
+            return;
         }
+        long start = System.nanoTime();
+        concurrencyLimiter.acquire();
+        try {
+            rateLimiter.acquire(uri);
+        } catch (InterruptedException ex) {
+            concurrencyLimiter.release();
+            throw ex;
+        }
+        admissionTimer.record(System.nanoTime() - start);
+    }
+
+    // Capacity runs bound their own concurrency with the worker pool; only the per-host rate applies to them.
+    private void admitRate(URI uri) throws InterruptedException {
+        if (rateLimiter.isUnlimited()) {
+            return;
+        }
+        rateLimiter.acquire(uri);
     }
 
     private URI buildUri(String url) throws URISyntaxException {
         return new URI(url);
     }
 
-    private HttpRequest buildRequest(HttpMethod method, URI uri, String body) {
+    private HttpRequest buildRequest(HttpMethod method, URI uri, RequestBody body, String accept) throws IOException {
         HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
-                .timeout(Duration.ofSeconds(30))
-                .header("Accept", "application/json");
+                .header("Accept", accept);
+        // The request timeout runs until the response headers arrive, so it includes the upload. File, generated
+        // and multipart bodies can take far longer than that to send; only the connect timeout applies to them.
+        if (!sendsBody(method, body) || body instanceof RequestBody.Text) {
+            builder.timeout(REQUEST_TIMEOUT);
+        }
 
-        if (method.allowsBody() && body != null && !body.isBlank()) {
-            builder.header("Content-Type", "application/json");
-            builder.method(method.name(), HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (sendsBody(method, body)) {
+            builder.header("Content-Type", body.contentType());
+            builder.method(method.name(), body.publisher());
         } else {
             builder.method(method.name(), HttpRequest.BodyPublishers.noBody());
         }
@@ -68,7 +372,11 @@ public class HttpClientService {
         return builder.build();
     }
 
-    private String buildRawRequest(HttpMethod method, URI uri, HttpRequest request, String body) {
+    private boolean sendsBody(HttpMethod method, RequestBody body) {
+        return method.allowsBody() && body != null && !body.isEmpty();
+    }
+
+    private String buildRawRequest(HttpMethod method, URI uri, HttpRequest request, RequestBody body) {
         StringBuilder builder = new StringBuilder();
         builder.append(method.name())
                 .append(" ")
@@ -83,8 +391,8 @@ public class HttpClientService {
         headers.forEach((name, values) ->
                 values.forEach(value -> builder.append(name).append(": ").append(value).append(NEW_LINE)));
 
-        if (method.allowsBody() && body != null && !body.isBlank()) {
-            builder.append(NEW_LINE).append(body);
+        if (sendsBody(method, body)) {
+            builder.append(NEW_LINE).append(body.preview());
         }
 
         return builder.toString();
@@ -114,7 +422,13 @@ public class HttpClientService {
         return path + "?" + query;
     }
 
-    private String buildRawResponse(HttpResponse<String> response) {
+    private String buildRawResponse(HttpResponse<?> response, String body) {
+        StringBuilder builder = buildResponseHead(response);
+        builder.append(NEW_LINE).append(body);
+        return builder.toString();
+    }
+
+    private StringBuilder buildResponseHead(HttpResponse<?> response) {
         StringBuilder builder = new StringBuilder();
         builder.append(resolveHttpVersion(response.version()))
                 .append(" ")
@@ -125,20 +439,108 @@ public class HttpClientService {
 
         response.headers().map().forEach((name, values) ->
                 values.forEach(value -> builder.append(name).append(": ").append(value).append(NEW_LINE)));
+        return builder;
+    }
 
-        builder.append(NEW_LINE).append(response.body());
-        return builder.toString();
+    private void recordUploadRate(long bytesSent, long headersNanos) {
+        if (bytesSent > 0 && headersNanos > 0) {
+            uploadRateHistogram.record((long) (bytesSent * 1_000_000_000.0 / headersNanos));
+        }
     }
 
-    private String formatBody(String body) {
-        if (body == null || body.isBlank()) {
-            return "";
+    private HttpResponse.BodySubscriber<ResponsePayload> selectBodySubscriber(URI uri, HttpResponse.ResponseInfo responseInfo,
+                                                                             FileDownloadSubscriber.ProgressListener downloadListener) {
+        HttpHeaders headers = responseInfo.headers();
+        if (!isDownload(headers)) {
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(), ResponsePayload::stream);
         }
+        long contentLength = headers.firstValueAsLong("Content-Length").orElse(-1);
+        FileDownloadSubscriber subscriber = new FileDownloadSubscriber(resolveDownloadFile(uri, headers), contentLength, downloadListener);
+        return HttpResponse.BodySubscribers.mapping(subscriber, ResponsePayload::download);
+    }
+
+    private boolean isDownload(HttpHeaders headers) {
+        String disposition = headers.firstValue("Content-Disposition").orElse("").toLowerCase(Locale.ROOT);
+        if (disposition.startsWith("attachment")) {
+            return true;
+        }
+        String contentType = headers.firstValue("Content-Type").orElse("").toLowerCase(Locale.ROOT);
+        if (contentType.isBlank()) {
+            return false;
+        }
+        if (contentType.startsWith("text/")) {
+            return false;
+        }
+        for (String marker : TEXT_CONTENT_MARKERS) {
+            if (contentType.contains(marker)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path resolveDownloadFile(URI uri, HttpHeaders headers) {
+        String fileName = headers.firstValue("Content-Disposition")
+                .map(HttpClientService::extractFileName)
+                .orElse(null);
+        if (fileName == null || fileName.isBlank()) {
+            String path = uri.getPath();
+            fileName = path != null ? path.substring(path.lastIndexOf('/') + 1) : "";
+        }
+        fileName = fileName.replaceAll("[\\\\/:*?\"<>|]", "_");
+        if (fileName.isBlank()) {
+            fileName = "download";
+        }
+        // The subscriber claims this name, or the next free numbered one, when it opens the file.
+        return downloadDirectory.resolve(fileName);
+    }
+
+    private static String extractFileName(String disposition) {
+        for (String part : disposition.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("filename=")) {
+                String value = trimmed.substring("filename=".length()).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private String formatBody(InputStream body) throws IOException {
+        MetricsRegistry.Sample format = formatTimer.start();
         try {
-            JsonNode jsonNode = objectMapper.readTree(body);
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode);
-        } catch (JsonProcessingException ex) {
-            return body;
+            return jsonFormatter.format(body);
+        } finally {
+            format.stop();
+        }
+    }
+
+    public String formatSpilledBody(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            String formatted = formatBody(input);
+            return formatted != null ? formatted : new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String previewSpilledBody(Path file, long bytes) throws IOException {
+        if (RenderStrategy.forSize(bytes) == RenderStrategy.RAW_ONLY) {
+            return readTextPrefix(file, RenderStrategy.RAW_PREVIEW_BYTES);
+        }
+        MetricsRegistry.Sample format = formatTimer.start();
+        try (InputStream input = Files.newInputStream(file)) {
+            String preview = jsonFormatter.formatPrefix(input, RenderStrategy.PREVIEW_CHARS);
+            return preview != null ? preview : readTextPrefix(file, RenderStrategy.PREVIEW_CHARS);
+        } finally {
+            format.stop();
+        }
+    }
+
+    private static String readTextPrefix(Path file, int maxBytes) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return new String(input.readNBytes(maxBytes), StandardCharsets.UTF_8);
         }
     }
 
@@ -151,4 +553,26 @@ public class HttpClientService {
             case HTTP_2 -> "HTTP/2";
         };
     }
+
+    public enum ExchangeMode {
+        // Admitted like an interactive send: waits for a concurrency slot and a per-host rate permit.
+        BATCH,
+        // Skips the global concurrency cap, since the capacity search's own worker count is the variable being
+        // measured, and records nothing in the service metrics.
+        CAPACITY
+    }
+
+    public record LimiterUsage(int inFlight, int maxConcurrent, int waiting, double requestsPerSecondPerHost, int hosts) {
+    }
+
+    private record ResponsePayload(InputStream stream, FileDownloadSubscriber.FileDownload download) {
+
+        static ResponsePayload stream(InputStream stream) {
+            return new ResponsePayload(stream, null);
+        }
+
+        static ResponsePayload download(FileDownloadSubscriber.FileDownload download) {
+            return new ResponsePayload(null, download);
+        }
+    }
 }
@@ -1,16 +1,39 @@
 package cl.prezdev.envio;
 
-public record HttpInteractionResult(String formattedBody, String rawRequest, String rawResponse, String errorMessage, int statusCode) {
+import java.nio.file.Path;
 
-    public static HttpInteractionResult success(String formattedBody, String rawRequest, String rawResponse, int statusCode) {
-        return new HttpInteractionResult(formattedBody, rawRequest, rawResponse, null, statusCode);
+public record HttpInteractionResult(String formattedBody, String rawRequest, String rawResponse, String errorMessage, int statusCode,
+                                    FileDownloadSubscriber.FileDownload download, RequestTiming timing, AttemptSummary attempts,
+                                    Path spilledBody) {
+
+    public static HttpInteractionResult success(String formattedBody, String rawRequest, String rawResponse, int statusCode,
+                                                RequestTiming timing, AttemptSummary attempts) {
+        return new HttpInteractionResult(formattedBody, rawRequest, rawResponse, null, statusCode, null, timing, attempts, null);
+    }
+
+    public static HttpInteractionResult spilled(String preview, String rawRequest, String rawResponse, int statusCode,
+                                                RequestTiming timing, AttemptSummary attempts, Path spilledBody) {
+        return new HttpInteractionResult(preview, rawRequest, rawResponse, null, statusCode, null, timing, attempts, spilledBody);
+    }
+
+    public static HttpInteractionResult download(FileDownloadSubscriber.FileDownload download, String rawRequest, String rawResponse,
+                                                 int statusCode, RequestTiming timing, AttemptSummary attempts) {
+        return new HttpInteractionResult("", rawRequest, rawResponse, null, statusCode, download, timing, attempts, null);
     }
 
     public static HttpInteractionResult failure(String message, String rawRequest, String rawResponse) {
-        return new HttpInteractionResult("", rawRequest, rawResponse, message, -1);
+        return new HttpInteractionResult("", rawRequest, rawResponse, message, -1, null, null, null, null);
     }
 
     public boolean hasError() {
         return errorMessage != null;
     }
+
+    public boolean isDownload() {
+        return download != null;
+    }
+
+    public boolean isSpilled() {
+        return spilledBody != null;
+    }
 }
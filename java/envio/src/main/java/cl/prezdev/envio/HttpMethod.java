@@ -1,21 +1,27 @@
 package cl.prezdev.envio;
 
 public enum HttpMethod {
-    GET(false),
-    POST(true),
-    PUT(true),
-    DELETE(true),
-    PATCH(true),
-    HEAD(false),
-    OPTIONS(false);
+    GET(false, true),
+    POST(true, false),
+    PUT(true, true),
+    DELETE(true, true),
+    PATCH(true, false),
+    HEAD(false, true),
+    OPTIONS(false, true);
 
     private final boolean allowsBody;
+    private final boolean idempotent;
 
-    HttpMethod(boolean allowsBody) {
+    HttpMethod(boolean allowsBody, boolean idempotent) {
         this.allowsBody = allowsBody;
+        this.idempotent = idempotent;
     }
 
     public boolean allowsBody() {
         return allowsBody;
     }
+
+    public boolean idempotent() {
+        return idempotent;
+    }
 }
@@ -1,6 +1,7 @@
 package cl.prezdev.envio;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -8,9 +9,121 @@ public final class I18n {
 
     private static final Map<Language, AppTexts> APP_TEXTS = new EnumMap<>(Language.class);
     private static final Map<Language, PanelTexts> PANEL_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, MetricsTexts> METRICS_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, StreamTexts> STREAM_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, WebSocketTexts> WEB_SOCKET_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, DownloadTexts> DOWNLOAD_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, RequestBodyTexts> REQUEST_BODY_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, TimingTexts> TIMING_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, EnvironmentTexts> ENVIRONMENT_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, BatchTexts> BATCH_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, LimiterTexts> LIMITER_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, CapacityTexts> CAPACITY_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, RenderTexts> RENDER_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, QueryTexts> QUERY_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, TableTexts> TABLE_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, SchemaTexts> SCHEMA_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, WorkspaceTexts> WORKSPACE_TEXTS = new EnumMap<>(Language.class);
+    private static final Map<Language, MemoryTexts> MEMORY_TEXTS = new EnumMap<>(Language.class);
 
-    static {
-        APP_TEXTS.put(Language.ES, new AppTexts(
+    private I18n() {
+    }
+
+    public static synchronized AppTexts app(Language language) {
+        return APP_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createAppTexts);
+    }
+
+    public static synchronized PanelTexts panel(Language language) {
+        return PANEL_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createPanelTexts);
+    }
+
+    public static synchronized MetricsTexts metrics(Language language) {
+        return METRICS_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createMetricsTexts);
+    }
+
+    public static synchronized StreamTexts stream(Language language) {
+        return STREAM_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createStreamTexts);
+    }
+
+    public static synchronized WebSocketTexts webSocket(Language language) {
+        return WEB_SOCKET_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createWebSocketTexts);
+    }
+
+    public static synchronized DownloadTexts download(Language language) {
+        return DOWNLOAD_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createDownloadTexts);
+    }
+
+    public static synchronized RequestBodyTexts requestBody(Language language) {
+        return REQUEST_BODY_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createRequestBodyTexts);
+    }
+
+    public static synchronized TimingTexts timing(Language language) {
+        return TIMING_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createTimingTexts);
+    }
+
+    public static synchronized CapacityTexts capacity(Language language) {
+        return CAPACITY_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createCapacityTexts);
+    }
+
+    public static synchronized LimiterTexts limiter(Language language) {
+        return LIMITER_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createLimiterTexts);
+    }
+
+    public static synchronized RenderTexts render(Language language) {
+        return RENDER_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createRenderTexts);
+    }
+
+    public static synchronized QueryTexts query(Language language) {
+        return QUERY_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createQueryTexts);
+    }
+
+    public static synchronized TableTexts table(Language language) {
+        return TABLE_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createTableTexts);
+    }
+
+    public static synchronized SchemaTexts schema(Language language) {
+        return SCHEMA_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createSchemaTexts);
+    }
+
+    public static synchronized WorkspaceTexts workspace(Language language) {
+        return WORKSPACE_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createWorkspaceTexts);
+    }
+
+    public static synchronized MemoryTexts memory(Language language) {
+        return MEMORY_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createMemoryTexts);
+    }
+
+    public static synchronized EnvironmentTexts environments(Language language) {
+        return ENVIRONMENT_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createEnvironmentTexts);
+    }
+
+    public static synchronized BatchTexts batch(Language language) {
+        return BATCH_TEXTS.computeIfAbsent(language != null ? language : Language.ES, I18n::createBatchTexts);
+    }
+
+    private static AppTexts createAppTexts(Language language) {
+        if (language == Language.EN) {
+            return new AppTexts(
+                    "HTTP Client Viewer",
+                    "View",
+                    "Normal",
+                    "Medium",
+                    "Large",
+                    "Settings",
+                    "Edit preferences...",
+                    "Language",
+                    "Spanish",
+                    "English",
+                    "Sample APIs",
+                    "Loaded sample: %s",
+                    "Tools",
+                    "Batch run from dataset...",
+                    "Capacity search...",
+                    "New tab",
+                    "Close tab"
+            );
+        }
+        return new AppTexts(
                 "Visor de Cliente HTTP",
                 "Ver",
                 "Normal",
@@ -22,24 +135,40 @@ public final class I18n {
                 "Español",
                 "Inglés",
                 "APIs de prueba",
-                "Plantilla aplicada: %s"
-        ));
-        APP_TEXTS.put(Language.EN, new AppTexts(
-                "HTTP Client Viewer",
-                "View",
-                "Normal",
-                "Medium",
-                "Large",
-                "Settings",
-                "Edit preferences...",
-                "Language",
-                "Spanish",
-                "English",
-                "Sample APIs",
-                "Loaded sample: %s"
-        ));
-
-        PANEL_TEXTS.put(Language.ES, new PanelTexts(
+                "Plantilla aplicada: %s",
+                "Herramientas",
+                "Ejecución por lotes desde datos...",
+                "Búsqueda de capacidad...",
+                "Nueva pestaña",
+                "Cerrar pestaña"
+        );
+    }
+
+    private static PanelTexts createPanelTexts(Language language) {
+        if (language == Language.EN) {
+            return new PanelTexts(
+                    "Method",
+                    "URL",
+                    "Body (optional JSON)",
+                    "Send",
+                    "Ready",
+                    "Calling endpoint...",
+                    "URL is required",
+                    "Operation completed",
+                    detail -> "Error executing request: " + detail,
+                    "Formatted JSON",
+                    "JSON tree",
+                    "Raw request",
+                    "Raw response",
+                    "No data",
+                    "Invalid JSON",
+                    "Object",
+                    "Array",
+                    "HTTP status: %s",
+                    "Wrap lines"
+            );
+        }
+        return new PanelTexts(
                 "Método",
                 "URL",
                 "Cuerpo (JSON opcional)",
@@ -57,40 +186,451 @@ public final class I18n {
                 "No es JSON válido",
                 "Objeto",
                 "Arreglo",
-                "Código HTTP: %s"
-        ));
+                "Código HTTP: %s",
+                "Ajustar líneas"
+        );
+    }
 
-        PANEL_TEXTS.put(Language.EN, new PanelTexts(
-                "Method",
-                "URL",
-                "Body (optional JSON)",
-                "Send",
-                "Ready",
-                "Calling endpoint...",
-                "URL is required",
-                "Operation completed",
-                detail -> "Error executing request: " + detail,
-                "Formatted JSON",
-                "JSON tree",
-                "Raw request",
-                "Raw response",
-                "No data",
-                "Invalid JSON",
-                "Object",
-                "Array",
-                "HTTP status: %s"
-        ));
+    private static MetricsTexts createMetricsTexts(Language language) {
+        if (language == Language.EN) {
+            return new MetricsTexts(
+                    "Metrics",
+                    List.of("Metric", "Type", "Count", "Last", "Mean", "p50", "p95", "p99", "Max", "Total", "Unit"),
+                    "Export JSON...",
+                    "Reset",
+                    "Export metrics snapshot",
+                    "Metrics exported to %s",
+                    "Could not export metrics: %s"
+            );
+        }
+        return new MetricsTexts(
+                "Métricas",
+                List.of("Métrica", "Tipo", "Cantidad", "Último", "Media", "p50", "p95", "p99", "Máx", "Total", "Unidad"),
+                "Exportar JSON...",
+                "Reiniciar",
+                "Exportar instantánea de métricas",
+                "Métricas exportadas en %s",
+                "No se pudieron exportar las métricas: %s"
+        );
     }
 
-    private I18n() {
+    private static StreamTexts createStreamTexts(Language language) {
+        if (language == Language.EN) {
+            return new StreamTexts(
+                    "Stream",
+                    "Streaming",
+                    "Follow",
+                    "Stop",
+                    "%.1f events/s · %s/s · %d events (%d retained)",
+                    "Receiving stream...",
+                    "Stream closed"
+            );
+        }
+        return new StreamTexts(
+                "Flujo",
+                "Streaming",
+                "Seguir",
+                "Detener",
+                "%.1f eventos/s · %s/s · %d eventos (%d retenidos)",
+                "Recibiendo flujo...",
+                "Flujo finalizado"
+        );
+    }
+
+    private static WebSocketTexts createWebSocketTexts(Language language) {
+        if (language == Language.EN) {
+            return new WebSocketTexts(
+                    "WebSocket",
+                    "Connect",
+                    "Disconnect",
+                    "Send",
+                    "Format JSON",
+                    "Follow",
+                    "%.1f msg/s · %s/s · %d in / %d out (%d retained)",
+                    "Connecting...",
+                    "Connected",
+                    "Closed (%d %s)",
+                    "Error: %s"
+            );
+        }
+        return new WebSocketTexts(
+                "WebSocket",
+                "Conectar",
+                "Desconectar",
+                "Enviar",
+                "Formatear JSON",
+                "Seguir",
+                "%.1f msj/s · %s/s · %d recibidos / %d enviados (%d retenidos)",
+                "Conectando...",
+                "Conectado",
+                "Cerrado (%d %s)",
+                "Error: %s"
+        );
+    }
+
+    private static DownloadTexts createDownloadTexts(Language language) {
+        if (language == Language.EN) {
+            return new DownloadTexts(
+                    "%s of %s · %s/s",
+                    "%s · %s/s",
+                    "Binary response (%s, %s/s) saved to:%n%s",
+                    "Hex preview of the first %s of %s",
+                    "Download completed"
+            );
+        }
+        return new DownloadTexts(
+                "%s de %s · %s/s",
+                "%s · %s/s",
+                "Respuesta binaria (%s, %s/s) guardada en:%n%s",
+                "Vista hexadecimal de los primeros %s de %s",
+                "Descarga completada"
+        );
+    }
+
+    private static RequestBodyTexts createRequestBodyTexts(Language language) {
+        if (language == Language.EN) {
+            return new RequestBodyTexts(
+                    Map.of(
+                            RequestBodyMode.TEXT, "Text",
+                            RequestBodyMode.FILE, "File",
+                            RequestBodyMode.GENERATED, "Generated",
+                            RequestBodyMode.FORM, "Form (urlencoded)",
+                            RequestBodyMode.MULTIPART, "Multipart"
+                    ),
+                    "Choose file...",
+                    "No file selected",
+                    "Lines:",
+                    "Select a file to send as the body",
+                    "Request body file",
+                    List.of("Name", "Value", "File"),
+                    "Add field",
+                    "Add file...",
+                    "Remove"
+            );
+        }
+        return new RequestBodyTexts(
+                Map.of(
+                        RequestBodyMode.TEXT, "Texto",
+                        RequestBodyMode.FILE, "Archivo",
+                        RequestBodyMode.GENERATED, "Generado",
+                        RequestBodyMode.FORM, "Formulario (urlencoded)",
+                        RequestBodyMode.MULTIPART, "Multipart"
+                ),
+                "Elegir archivo...",
+                "Ningún archivo seleccionado",
+                "Líneas:",
+                "Selecciona un archivo para enviar como cuerpo",
+                "Archivo del cuerpo de la petición",
+                List.of("Nombre", "Valor", "Archivo"),
+                "Agregar campo",
+                "Agregar archivo...",
+                "Quitar"
+        );
+    }
+
+    private static CapacityTexts createCapacityTexts(Language language) {
+        if (language == Language.EN) {
+            return new CapacityTexts(
+                    "Capacity search",
+                    "Ramps concurrency on the current request (additive increase, multiplicative back-off) until the SLO breaks.",
+                    "Start concurrency:",
+                    "Max concurrency:",
+                    "Increase per step:",
+                    "Back-off factor:",
+                    "Step duration (s):",
+                    "SLO p99 (ms):",
+                    "Max error rate (%):",
+                    List.of("Step", "Concurrency", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Errors %", "SLO"),
+                    "Start",
+                    "Stop",
+                    "Export CSV...",
+                    "Close",
+                    "Step %d · concurrency %d · %,d requests",
+                    "Knee: concurrency %d · %.1f req/s · p99 %.0f ms",
+                    "No step met the SLO",
+                    "Failed: %s",
+                    "Report saved to %s"
+            );
+        }
+        return new CapacityTexts(
+                "Búsqueda de capacidad",
+                "Aumenta la concurrencia de la petición actual (suma al subir, multiplica al bajar) hasta romper el SLO.",
+                "Concurrencia inicial:",
+                "Concurrencia máxima:",
+                "Incremento por paso:",
+                "Factor de retroceso:",
+                "Duración del paso (s):",
+                "SLO p99 (ms):",
+                "Tasa de error máxima (%):",
+                List.of("Paso", "Concurrencia", "Pet/s", "p50 ms", "p95 ms", "p99 ms", "Errores %", "SLO"),
+                "Iniciar",
+                "Detener",
+                "Exportar CSV...",
+                "Cerrar",
+                "Paso %d · concurrencia %d · %,d peticiones",
+                "Punto de inflexión: concurrencia %d · %.1f pet/s · p99 %.0f ms",
+                "Ningún paso cumplió el SLO",
+                "Falló: %s",
+                "Reporte guardado en %s"
+        );
+    }
+
+    private static LimiterTexts createLimiterTexts(Language language) {
+        if (language == Language.EN) {
+            return new LimiterTexts(
+                    "In flight %d/%s",
+                    " · queued %d",
+                    " · %s req/s per host",
+                    "Concurrent requests and per-host rate limit (Settings → Red)"
+            );
+        }
+        return new LimiterTexts(
+                "En curso %d/%s",
+                " · en cola %d",
+                " · %s req/s por host",
+                "Solicitudes simultáneas y límite de tasa por host (Ajustes → Red)"
+        );
+    }
+
+    private static RenderTexts createRenderTexts(Language language) {
+        if (language == Language.EN) {
+            return new RenderTexts(
+                    "Large response (%s): syntax highlighting disabled.",
+                    "Large response (%s): highlighting disabled and tree collapsed.",
+                    "Very large response (%s): showing a formatted preview of the first %s; the full body is on disk.",
+                    "Huge response (%s): showing the first %s as raw text only; the full body is on disk.",
+                    "Render fully anyway",
+                    "Rendering the full response…",
+                    "Not enough memory to render %s fully (about %s needed, %s available).",
+                    "Could not render the full response: %s",
+                    "Tree skipped for large responses"
+            );
+        }
+        return new RenderTexts(
+                "Respuesta grande (%s): resaltado de sintaxis desactivado.",
+                "Respuesta grande (%s): resaltado desactivado y árbol contraído.",
+                "Respuesta muy grande (%s): vista previa formateada de los primeros %s; el cuerpo completo está en disco.",
+                "Respuesta enorme (%s): se muestran los primeros %s solo como texto crudo; el cuerpo completo está en disco.",
+                "Renderizar completo",
+                "Renderizando la respuesta completa…",
+                "No hay memoria suficiente para renderizar %s completo (se necesitan unos %s, hay %s disponibles).",
+                "No se pudo renderizar la respuesta completa: %s",
+                "Árbol omitido en respuestas grandes"
+        );
+    }
+
+    private static QueryTexts createQueryTexts(Language language) {
+        if (language == Language.EN) {
+            return new QueryTexts(
+                    "Query",
+                    "Run",
+                    "JSONPath ($.data[*].id, $..name, $.items[0:10]) or JSON Pointer (/data/0/id)",
+                    "%d matches in %.0f ms",
+                    " · stopped at %d matches",
+                    "There is no response to query yet",
+                    "Querying…",
+                    "Query failed: %s"
+            );
+        }
+        return new QueryTexts(
+                "Consulta",
+                "Ejecutar",
+                "JSONPath ($.data[*].id, $..name, $.items[0:10]) o JSON Pointer (/data/0/id)",
+                "%d coincidencias en %.0f ms",
+                " · detenida en %d coincidencias",
+                "Todavía no hay una respuesta para consultar",
+                "Consultando…",
+                "La consulta falló: %s"
+        );
+    }
+
+    private static TableTexts createTableTexts(Language language) {
+        if (language == Language.EN) {
+            return new TableTexts(
+                    "Table",
+                    "Filter",
+                    "Text matches any text column; a number matches numeric columns exactly",
+                    "%d of %d rows · %d columns · %s in columns",
+                    " · array \"%s\"",
+                    " · limited to %d rows and %d columns",
+                    "The response has no JSON array to show as a table",
+                    "Reading columns…",
+                    "Sorting and filtering…",
+                    "Could not build the table: %s"
+            );
+        }
+        return new TableTexts(
+                "Tabla",
+                "Filtrar",
+                "El texto coincide con cualquier columna de texto; un número coincide exacto en columnas numéricas",
+                "%d de %d filas · %d columnas · %s en columnas",
+                " · arreglo \"%s\"",
+                " · limitado a %d filas y %d columnas",
+                "La respuesta no tiene un arreglo JSON para mostrar como tabla",
+                "Leyendo columnas…",
+                "Ordenando y filtrando…",
+                "No se pudo construir la tabla: %s"
+        );
+    }
+
+    private static SchemaTexts createSchemaTexts(Language language) {
+        if (language == Language.EN) {
+            return new SchemaTexts(
+                    "Schema",
+                    "Cancel",
+                    List.of("Path", "Types", "Values", "Present %", "Null %", "Min", "Max", "Mean", "Distinct ≈", "Length", "Items"),
+                    "%d paths · %d values · %s read in %.0f ms",
+                    " · stopped adding paths after %d",
+                    "Analyzing… %s read",
+                    "Analyzing…",
+                    "Analysis cancelled",
+                    "There is no response to analyze yet",
+                    "Analysis failed: %s"
+            );
+        }
+        return new SchemaTexts(
+                "Esquema",
+                "Cancelar",
+                List.of("Ruta", "Tipos", "Valores", "Presente %", "Nulos %", "Mín", "Máx", "Media", "Distintos ≈", "Largo", "Elementos"),
+                "%d rutas · %d valores · %s leídos en %.0f ms",
+                " · no se agregaron rutas después de %d",
+                "Analizando… %s leídos",
+                "Analizando…",
+                "Análisis cancelado",
+                "Todavía no hay una respuesta para analizar",
+                "El análisis falló: %s"
+        );
+    }
+
+    private static WorkspaceTexts createWorkspaceTexts(Language language) {
+        if (language == Language.EN) {
+            return new WorkspaceTexts(
+                    "New request",
+                    "New tab",
+                    "≈ %s in memory",
+                    "Hibernated · %s compressed on disk"
+            );
+        }
+        return new WorkspaceTexts(
+                "Nueva solicitud",
+                "Nueva pestaña",
+                "≈ %s en memoria",
+                "Hibernada · %s comprimidos en disco"
+        );
     }
 
-    public static AppTexts app(Language language) {
-        return APP_TEXTS.getOrDefault(language, APP_TEXTS.get(Language.ES));
+    private static MemoryTexts createMemoryTexts(Language language) {
+        if (language == Language.EN) {
+            return new MemoryTexts(
+                    "Memory %s / %s",
+                    "Highlighting %s · trees %s · tables %s · responses %s · %d released (budget in Settings → Memoria)",
+                    "Syntax highlighting was dropped to keep responses within the %s memory budget.",
+                    "Tree released to save memory; open the tab again to rebuild it"
+            );
+        }
+        return new MemoryTexts(
+                "Memoria %s / %s",
+                "Resaltado %s · árboles %s · tablas %s · respuestas %s · %d liberados (límite en Ajustes → Memoria)",
+                "Se quitó el resaltado de sintaxis para mantener las respuestas dentro del límite de memoria de %s.",
+                "Árbol liberado para ahorrar memoria; vuelve a abrir la pestaña para reconstruirlo"
+        );
     }
 
-    public static PanelTexts panel(Language language) {
-        return PANEL_TEXTS.getOrDefault(language, PANEL_TEXTS.get(Language.ES));
+    private static TimingTexts createTimingTexts(Language language) {
+        if (language == Language.EN) {
+            return new TimingTexts(
+                    "Headers %.0f ms · total %.0f ms",
+                    " · ↑ %s (%s/s)",
+                    " · ↓ %s (%s/s)",
+                    " · attempts %d · hedges %d · wasted %.0f ms",
+                    " · origin not used recently (new connection likely)",
+                    " · origin used < 30 s ago (reuse likely)",
+                    " · preconnected < 30 s ago (reuse likely)"
+            );
+        }
+        return new TimingTexts(
+                "Cabeceras %.0f ms · total %.0f ms",
+                " · ↑ %s (%s/s)",
+                " · ↓ %s (%s/s)",
+                " · intentos %d · coberturas %d · desperdicio %.0f ms",
+                " · origen sin uso reciente (conexión nueva probable)",
+                " · origen usado hace < 30 s (reutilización probable)",
+                " · preconectado hace < 30 s (reutilización probable)"
+        );
+    }
+
+    private static EnvironmentTexts createEnvironmentTexts(Language language) {
+        if (language == Language.EN) {
+            return new EnvironmentTexts(
+                    "Env:",
+                    "(none)",
+                    "Edit environments",
+                    "Environments",
+                    "Environments",
+                    "Variables ({{name}} in URL and body)",
+                    List.of("Name", "Value"),
+                    "Add",
+                    "Remove",
+                    "New environment name:",
+                    "Save",
+                    "Cancel"
+            );
+        }
+        return new EnvironmentTexts(
+                "Entorno:",
+                "(ninguno)",
+                "Editar entornos",
+                "Entornos",
+                "Entornos",
+                "Variables ({{nombre}} en URL y cuerpo)",
+                List.of("Nombre", "Valor"),
+                "Agregar",
+                "Quitar",
+                "Nombre del nuevo entorno:",
+                "Guardar",
+                "Cancelar"
+        );
+    }
+
+    private static BatchTexts createBatchTexts(Language language) {
+        if (language == Language.EN) {
+            return new BatchTexts(
+                    "Batch run",
+                    "Dataset (CSV / JSON / NDJSON):",
+                    "Results (NDJSON):",
+                    "Browse...",
+                    "Concurrent requests:",
+                    "Requests/s per host (0 = unlimited):",
+                    "Store response bodies",
+                    "Uses the current method, URL and body; {{column}} takes values from each row.",
+                    "Start",
+                    "Stop",
+                    "Close",
+                    "%,d rows read · %,d done · %d in flight",
+                    "%.1f req/s · errors %.1f%% (%,d) · p50 %.0f ms · p95 %.0f ms · p99 %.0f ms",
+                    "Finished in %.1f s",
+                    "Failed: %s",
+                    "Choose a dataset and an output file"
+            );
+        }
+        return new BatchTexts(
+                "Ejecución por lotes",
+                "Datos (CSV / JSON / NDJSON):",
+                "Resultados (NDJSON):",
+                "Examinar...",
+                "Peticiones simultáneas:",
+                "Peticiones/s por host (0 = sin límite):",
+                "Guardar cuerpos de respuesta",
+                "Usa el método, URL y cuerpo actuales; {{columna}} toma los valores de cada fila.",
+                "Iniciar",
+                "Detener",
+                "Cerrar",
+                "%,d filas leídas · %,d completadas · %d en curso",
+                "%.1f pet/s · errores %.1f%% (%,d) · p50 %.0f ms · p95 %.0f ms · p99 %.0f ms",
+                "Terminado en %.1f s",
+                "Falló: %s",
+                "Selecciona los datos y el archivo de resultados"
+        );
     }
 
     public record AppTexts(
@@ -105,7 +645,12 @@ public final class I18n {
             String languageSpanish,
             String languageEnglish,
             String samplesMenu,
-            String sampleLoadedPattern
+            String sampleLoadedPattern,
+            String toolsMenu,
+            String batchRun,
+            String capacitySearch,
+            String newTab,
+            String closeTab
     ) {
     }
 
@@ -127,10 +672,221 @@ public final class I18n {
             String jsonTreeInvalid,
             String jsonTreeObject,
             String jsonTreeArray,
-            String statusCodePattern
+            String statusCodePattern,
+            String rawWrapLines
     ) {
         public String statusErrorWithDetail(String detail) {
             return statusErrorWithDetail.apply(detail);
         }
     }
+
+    public record MetricsTexts(
+            String tabTitle,
+            List<String> columns,
+            String exportButton,
+            String resetButton,
+            String exportDialogTitle,
+            String exportDonePattern,
+            String exportErrorPattern
+    ) {
+    }
+
+    public record StreamTexts(
+            String tabTitle,
+            String streamCheckbox,
+            String followCheckbox,
+            String stopButton,
+            String statsPattern,
+            String statusStreaming,
+            String statusClosed
+    ) {
+    }
+
+    public record WebSocketTexts(
+            String tabTitle,
+            String connectButton,
+            String disconnectButton,
+            String sendButton,
+            String formatJsonCheckbox,
+            String followCheckbox,
+            String statsPattern,
+            String statusConnecting,
+            String statusConnected,
+            String statusClosedPattern,
+            String statusErrorPattern
+    ) {
+    }
+
+    public record DownloadTexts(
+            String progressPattern,
+            String progressUnknownPattern,
+            String savedPattern,
+            String hexPreviewPattern,
+            String statusCompleted
+    ) {
+    }
+
+    public record RequestBodyTexts(
+            Map<RequestBodyMode, String> modeNames,
+            String chooseFileButton,
+            String noFileSelected,
+            String generatedLinesLabel,
+            String fileRequired,
+            String fileDialogTitle,
+            List<String> formColumns,
+            String addFieldButton,
+            String addFileButton,
+            String removeFieldButton
+    ) {
+        public String modeName(RequestBodyMode mode) {
+            return modeNames.getOrDefault(mode, mode.name());
+        }
+    }
+
+    public record CapacityTexts(
+            String dialogTitle,
+            String hint,
+            String startConcurrencyLabel,
+            String maxConcurrencyLabel,
+            String increaseLabel,
+            String decreaseLabel,
+            String stepSecondsLabel,
+            String sloP99Label,
+            String maxErrorRateLabel,
+            List<String> columns,
+            String startButton,
+            String stopButton,
+            String exportButton,
+            String closeButton,
+            String progressPattern,
+            String kneePattern,
+            String noKnee,
+            String failedPattern,
+            String exportedPattern
+    ) {
+    }
+
+    public record LimiterTexts(
+            String usagePattern,
+            String waitingPattern,
+            String ratePattern,
+            String tooltip
+    ) {
+    }
+
+    public record RenderTexts(
+            String plainPattern,
+            String collapsedPattern,
+            String previewPattern,
+            String rawOnlyPattern,
+            String renderFullyButton,
+            String renderingStatus,
+            String notEnoughMemoryPattern,
+            String failedPattern,
+            String treeSkipped
+    ) {
+    }
+
+    public record QueryTexts(
+            String tabTitle,
+            String runButton,
+            String queryTooltip,
+            String resultPattern,
+            String truncatedPattern,
+            String noResponse,
+            String running,
+            String failedPattern
+    ) {
+    }
+
+    public record TableTexts(
+            String tabTitle,
+            String filterLabel,
+            String filterTooltip,
+            String summaryPattern,
+            String arrayPattern,
+            String truncatedPattern,
+            String noData,
+            String loading,
+            String sorting,
+            String failedPattern
+    ) {
+    }
+
+    public record SchemaTexts(
+            String tabTitle,
+            String cancelButton,
+            List<String> columns,
+            String summaryPattern,
+            String truncatedPattern,
+            String progressPattern,
+            String analyzing,
+            String cancelled,
+            String noData,
+            String failedPattern
+    ) {
+    }
+
+    public record WorkspaceTexts(
+            String newTabTitle,
+            String newTabTooltip,
+            String footprintPattern,
+            String hibernatedPattern
+    ) {
+    }
+
+    public record MemoryTexts(
+            String usagePattern,
+            String breakdownPattern,
+            String highlightDroppedPattern,
+            String treeDropped
+    ) {
+    }
+
+    public record TimingTexts(
+            String summaryPattern,
+            String uploadPattern,
+            String downloadPattern,
+            String attemptsPattern,
+            String newConnection,
+            String reusedConnection,
+            String preconnectedConnection
+    ) {
+    }
+
+    public record EnvironmentTexts(
+            String environmentLabel,
+            String noEnvironment,
+            String editButtonTooltip,
+            String dialogTitle,
+            String environmentsLabel,
+            String variablesLabel,
+            List<String> variableColumns,
+            String addButton,
+            String removeButton,
+            String newEnvironmentPrompt,
+            String saveButton,
+            String cancelButton
+    ) {
+    }
+
+    public record BatchTexts(
+            String dialogTitle,
+            String datasetLabel,
+            String outputLabel,
+            String browseButton,
+            String concurrencyLabel,
+            String rateLabel,
+            String includeBodiesCheckbox,
+            String hint,
+            String startButton,
+            String stopButton,
+            String closeButton,
+            String progressPattern,
+            String statsPattern,
+            String finishedPattern,
+            String failedPattern,
+            String filesRequired
+    ) {
+    }
 }
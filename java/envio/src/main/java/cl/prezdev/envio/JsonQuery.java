@@ -0,0 +1,300 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Evaluates a JSONPath subset or a JSON Pointer over parser tokens. Subtrees no step can match are skipped
+// unread into memory, so only the matches themselves are ever buffered.
+public final class JsonQuery {
+
+    private static final int MAX_STEPS = 63;
+
+    public interface Source {
+        JsonParser open(JsonFactory factory) throws IOException;
+    }
+
+    public record Result(String json, int matches, long elapsedNanos, boolean truncated) {
+
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+
+    private final String expression;
+    private final List<Step> steps;
+    private final long acceptMask;
+
+    private JsonQuery(String expression, List<Step> steps) {
+        if (steps.size() > MAX_STEPS) {
+            throw new IllegalArgumentException("La expresión tiene demasiados pasos (máximo " + MAX_STEPS + ")");
+        }
+        this.expression = expression;
+        this.steps = List.copyOf(steps);
+        this.acceptMask = 1L << steps.size();
+    }
+
+    public static JsonQuery compile(String expression) {
+        String trimmed = expression == null ? "" : expression.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("/")) {
+            return compilePointer(trimmed);
+        }
+        if (trimmed.startsWith("$")) {
+            return new JsonQuery(trimmed, new PathParser(trimmed).parse());
+        }
+        throw new IllegalArgumentException("La expresión debe empezar con '$' (JSONPath) o '/' (JSON Pointer)");
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    public Result evaluate(JsonFactory factory, Source source, int maxMatches) throws IOException {
+        long start = System.nanoTime();
+        StringWriter output = new StringWriter();
+        Emitter emitter = new Emitter(factory.createGenerator(output), maxMatches);
+        try (JsonParser parser = source.open(factory)) {
+            emitter.generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            emitter.generator.writeStartArray();
+            if (parser.nextToken() != null) {
+                visit(parser, 1L, emitter);
+            }
+            emitter.generator.writeEndArray();
+        } finally {
+            emitter.generator.close();
+        }
+        return new Result(output.toString(), emitter.matches, System.nanoTime() - start, emitter.isFull());
+    }
+
+    private static JsonQuery compilePointer(String expression) {
+        List<Step> steps = new ArrayList<>();
+        JsonPointer pointer;
+        try {
+            pointer = JsonPointer.compile(expression);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("JSON Pointer inválido: " + ex.getMessage());
+        }
+        for (JsonPointer current = pointer; !current.matches(); current = current.tail()) {
+            steps.add(new Step(Kind.POINTER, current.getMatchingProperty(), current.getMatchingIndex(), -1, false));
+        }
+        return new JsonQuery(expression, steps);
+    }
+
+    // The parser is positioned on the first token of a value whose active states are given as a bit mask.
+    private void visit(JsonParser parser, long states, Emitter emitter) throws IOException {
+        if (emitter.isFull()) {
+            return;
+        }
+        JsonToken token = parser.currentToken();
+        long live = states & ~acceptMask;
+        if ((states & acceptMask) != 0) {
+            if (!token.isStructStart() || live == 0) {
+                emitter.emit(parser);
+                return;
+            }
+            // A recursive step may still match inside this match; buffer it once and walk the copy.
+            TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.copyCurrentStructure(parser);
+            try (JsonParser replay = buffer.asParser()) {
+                replay.nextToken();
+                emitter.emit(replay);
+            }
+            try (JsonParser replay = buffer.asParser()) {
+                replay.nextToken();
+                visit(replay, live, emitter);
+            }
+            return;
+        }
+        if (!token.isStructStart()) {
+            return;
+        }
+        if (live == 0) {
+            parser.skipChildren();
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (!emitter.isFull() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                visitChild(parser, advance(live, name, -1), emitter);
+            }
+        } else {
+            int index = 0;
+            while (!emitter.isFull() && parser.nextToken() != JsonToken.END_ARRAY) {
+                visitChild(parser, advance(live, null, index++), emitter);
+            }
+        }
+    }
+
+    private void visitChild(JsonParser parser, long states, Emitter emitter) throws IOException {
+        if (states == 0) {
+            parser.skipChildren();
+        } else {
+            visit(parser, states, emitter);
+        }
+    }
+
+    private long advance(long states, String name, int index) {
+        long next = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            if ((states & (1L << i)) == 0) {
+                continue;
+            }
+            Step step = steps.get(i);
+            if (step.recursive()) {
+                next |= 1L << i;
+            }
+            if (step.matches(name, index)) {
+                next |= 1L << (i + 1);
+            }
+        }
+        return next;
+    }
+
+    private enum Kind {
+        NAME,
+        INDEX,
+        SLICE,
+        WILDCARD,
+        POINTER
+    }
+
+    private record Step(Kind kind, String name, int start, int end, boolean recursive) {
+
+        boolean matches(String key, int index) {
+            return switch (kind) {
+                case WILDCARD -> true;
+                case NAME -> key != null && key.equals(name);
+                case INDEX -> key == null && index == start;
+                case SLICE -> key == null && index >= start && (end < 0 || index < end);
+                case POINTER -> key != null ? key.equals(name) : start >= 0 && index == start;
+            };
+        }
+    }
+
+    private static final class Emitter {
+        private final JsonGenerator generator;
+        private final int maxMatches;
+        private int matches;
+
+        private Emitter(JsonGenerator generator, int maxMatches) {
+            this.generator = generator;
+            this.maxMatches = maxMatches;
+        }
+
+        void emit(JsonParser parser) throws IOException {
+            generator.copyCurrentStructure(parser);
+            matches++;
+        }
+
+        boolean isFull() {
+            return maxMatches > 0 && matches >= maxMatches;
+        }
+    }
+
+    private static final class PathParser {
+        private final String text;
+        private int position = 1;
+
+        private PathParser(String text) {
+            this.text = text;
+        }
+
+        List<Step> parse() {
+            List<Step> steps = new ArrayList<>();
+            while (position < text.length()) {
+                char current = text.charAt(position);
+                if (current == '.') {
+                    boolean recursive = text.startsWith("..", position);
+                    position += recursive ? 2 : 1;
+                    if (position < text.length() && text.charAt(position) == '[') {
+                        steps.add(parseBracket(recursive));
+                    } else {
+                        steps.add(parseDotted(recursive));
+                    }
+                } else if (current == '[') {
+                    steps.add(parseBracket(false));
+                } else {
+                    throw error("se esperaba '.' o '['");
+                }
+            }
+            return steps;
+        }
+
+        private Step parseDotted(boolean recursive) {
+            int start = position;
+            while (position < text.length() && text.charAt(position) != '.' && text.charAt(position) != '[') {
+                position++;
+            }
+            String name = text.substring(start, position);
+            if (name.isEmpty()) {
+                throw error("falta el nombre de la propiedad");
+            }
+            return name.equals("*") ? new Step(Kind.WILDCARD, null, 0, -1, recursive) : new Step(Kind.NAME, name, 0, -1, recursive);
+        }
+
+        private Step parseBracket(boolean recursive) {
+            int close = findClosingBracket();
+            String content = text.substring(position + 1, close).trim();
+            position = close + 1;
+            if (content.equals("*")) {
+                return new Step(Kind.WILDCARD, null, 0, -1, recursive);
+            }
+            if (content.length() >= 2 && (content.startsWith("'") && content.endsWith("'")
+                    || content.startsWith("\"") && content.endsWith("\""))) {
+                return new Step(Kind.NAME, content.substring(1, content.length() - 1), 0, -1, recursive);
+            }
+            try {
+                int colon = content.indexOf(':');
+                if (colon < 0) {
+                    return new Step(Kind.INDEX, null, nonNegative(Integer.parseInt(content)), -1, recursive);
+                }
+                String from = content.substring(0, colon).trim();
+                String to = content.substring(colon + 1).trim();
+                int start = from.isEmpty() ? 0 : nonNegative(Integer.parseInt(from));
+                int end = to.isEmpty() ? -1 : nonNegative(Integer.parseInt(to));
+                return new Step(Kind.SLICE, null, start, end, recursive);
+            } catch (NumberFormatException ex) {
+                throw error("selector no soportado '[" + content + "]'");
+            }
+        }
+
+        private int findClosingBracket() {
+            char quote = 0;
+            for (int i = position + 1; i < text.length(); i++) {
+                char current = text.charAt(i);
+                if (quote != 0) {
+                    if (current == quote) {
+                        quote = 0;
+                    }
+                } else if (current == '\'' || current == '"') {
+                    quote = current;
+                } else if (current == ']') {
+                    return i;
+                }
+            }
+            throw error("falta ']'");
+        }
+
+        // Negative indexes need the array length up front, which a single streaming pass does not have.
+        private int nonNegative(int value) {
+            if (value < 0) {
+                throw error("los índices negativos no están soportados");
+            }
+            return value;
+        }
+
+        private IllegalArgumentException error(String detail) {
+            return new IllegalArgumentException("JSONPath inválido en la posición " + position + ": " + detail);
+        }
+    }
+}
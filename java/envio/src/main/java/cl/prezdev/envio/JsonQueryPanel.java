@@ -0,0 +1,112 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.QueryTexts;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+public class JsonQueryPanel extends JPanel {
+
+    private static final int MAX_MATCHES = 10_000;
+
+    private final JsonFactory jsonFactory;
+    private final Supplier<JsonQuery.Source> sourceSupplier;
+    private final LargeTextViewer resultViewer;
+    private final MetricsRegistry.Timer queryTimer;
+    private final JTextField queryField = new JTextField("$", 40);
+    private final JButton runButton = new JButton();
+    private final JLabel resultLabel = new JLabel(" ");
+    private QueryTexts texts;
+    private SwingWorker<JsonQuery.Result, Void> worker;
+
+    public JsonQueryPanel(JsonFactory jsonFactory, Supplier<JsonQuery.Source> sourceSupplier, LargeTextViewer resultViewer,
+                          MetricsRegistry metrics, Language language) {
+        this.jsonFactory = jsonFactory;
+        this.sourceSupplier = sourceSupplier;
+        this.resultViewer = resultViewer;
+        this.queryTimer = metrics.timer("json.query");
+        this.texts = I18n.query(language);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        queryField.addActionListener(e -> run());
+        runButton.addActionListener(e -> run());
+        JPanel queryPanel = new JPanel(new BorderLayout(8, 0));
+        queryPanel.add(queryField, BorderLayout.CENTER);
+        queryPanel.add(runButton, BorderLayout.EAST);
+
+        JPanel north = new JPanel(new BorderLayout(0, 4));
+        north.add(queryPanel, BorderLayout.NORTH);
+        north.add(resultLabel, BorderLayout.SOUTH);
+        add(north, BorderLayout.NORTH);
+        add(new JScrollPane(resultViewer), BorderLayout.CENTER);
+
+        setLanguage(language);
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.query(language);
+        runButton.setText(texts.runButton());
+        queryField.setToolTipText(texts.queryTooltip());
+    }
+
+    private void run() {
+        JsonQuery query;
+        try {
+            query = JsonQuery.compile(queryField.getText());
+        } catch (IllegalArgumentException ex) {
+            resultLabel.setText(ex.getMessage());
+            return;
+        }
+        JsonQuery.Source source = sourceSupplier.get();
+        if (source == null) {
+            resultLabel.setText(texts.noResponse());
+            return;
+        }
+        if (worker != null) {
+            worker.cancel(true);
+        }
+        runButton.setEnabled(false);
+        resultLabel.setText(texts.running());
+        worker = new SwingWorker<>() {
+            @Override
+            protected JsonQuery.Result doInBackground() throws Exception {
+                MetricsRegistry.Sample sample = queryTimer.start();
+                try {
+                    return query.evaluate(jsonFactory, source, MAX_MATCHES);
+                } finally {
+                    sample.stop();
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                runButton.setEnabled(true);
+                try {
+                    JsonQuery.Result result = get();
+                    resultViewer.setText(result.json());
+                    String summary = String.format(texts.resultPattern(), result.matches(), result.elapsedMillis());
+                    if (result.truncated()) {
+                        summary += String.format(texts.truncatedPattern(), MAX_MATCHES);
+                    }
+                    resultLabel.setText(summary);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    resultLabel.setText(String.format(texts.failedPattern(),
+                            cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName()));
+                }
+            }
+        };
+        worker.execute();
+    }
+}
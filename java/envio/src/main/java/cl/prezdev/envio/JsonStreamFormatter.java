@@ -0,0 +1,131 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Parsing is streaming, but the output is not: the pretty-printed text is collected in a pooled byte buffer and
+// then copied into the String the document needs, so a full format peaks at two to three times the formatted size.
+// That is why bodies above RenderStrategy.PREVIEW_THRESHOLD are spilled and only formatted through formatPrefix,
+// and why "render fully" checks free heap first.
+public final class JsonStreamFormatter {
+
+    private static final int POOL_SIZE = 4;
+    private static final int MAX_POOLED_CAPACITY = 8 * 1024 * 1024;
+    private static final int INITIAL_BUFFER_CAPACITY = 64 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final BlockingQueue<PooledBuffer> bufferPool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public JsonStreamFormatter(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public String format(InputStream input) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            String formatted = format(parser);
+            if (formatted == null) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+            return formatted;
+        }
+    }
+
+    public String format(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            return format(parser);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    // Formats only the leading part of a document: open containers are left unclosed so the cut is visible.
+    public String formatPrefix(InputStream input, int maxChars) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            PooledBuffer buffer = acquireBuffer();
+            try {
+                try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                    generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                    if (parser.nextToken() == null) {
+                        return null;
+                    }
+                    do {
+                        generator.copyCurrentEventExact(parser);
+                        if (generator.getOutputBuffered() + buffer.size() >= maxChars) {
+                            break;
+                        }
+                    } while (parser.nextToken() != null);
+                } catch (JsonProcessingException ex) {
+                    return null;
+                }
+                return buffer.toUtf8String();
+            } finally {
+                releaseBuffer(buffer);
+            }
+        }
+    }
+
+    private String format(JsonParser parser) throws IOException {
+        PooledBuffer buffer = acquireBuffer();
+        try {
+            try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+                generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                if (parser.nextToken() == null) {
+                    return null;
+                }
+                do {
+                    generator.copyCurrentEventExact(parser);
+                } while (parser.nextToken() != null);
+            } catch (JsonProcessingException ex) {
+                return null;
+            }
+            return buffer.toUtf8String();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private PooledBuffer acquireBuffer() {
+        PooledBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : new PooledBuffer();
+    }
+
+    private void releaseBuffer(PooledBuffer buffer) {
+        if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        buffer.reset();
+        bufferPool.offer(buffer);
+    }
+
+    private static final class PooledBuffer extends ByteArrayOutputStream {
+
+        private PooledBuffer() {
+            super(INITIAL_BUFFER_CAPACITY);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private String toUtf8String() {
+            return new String(buf, 0, count, StandardCharsets.UTF_8);
+        }
+    }
+}
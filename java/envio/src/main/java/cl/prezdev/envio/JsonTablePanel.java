@@ -0,0 +1,321 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.TableTexts;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumn;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.concurrent.ExecutionException;
+
+public class JsonTablePanel extends JPanel {
+
+    private static final int FILTER_DEBOUNCE_MS = 300;
+
+    private final JsonFactory jsonFactory;
+    private final MetricsRegistry.Timer loadTimer;
+    private final MemoryBudget.Artifact memory;
+    private final ColumnarTableModel tableModel = new ColumnarTableModel();
+    private final JTable table = new JTable(tableModel);
+    private final JTextField filterField = new JTextField(24);
+    private final JLabel filterLabel = new JLabel();
+    private final JLabel summaryLabel = new JLabel(" ");
+    private final Timer filterTimer;
+    private TableTexts texts;
+    private SwingWorker<?, ?> worker;
+    private ColumnarTable data;
+    private int[] filteredRows;
+    private int sortColumn = -1;
+    private boolean sortAscending = true;
+    private int loadedVersion = -1;
+
+    public JsonTablePanel(JsonFactory jsonFactory, MetricsRegistry metrics, MemoryBudget budget, Language language) {
+        this.jsonFactory = jsonFactory;
+        this.loadTimer = metrics.timer("ui.table.load");
+        this.memory = budget.register(MemoryBudget.Kind.TABLE, this::evict);
+        this.texts = I18n.table(language);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        table.setFillsViewportHeight(true);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent event) {
+                int column = table.columnAtPoint(event.getPoint());
+                if (column >= 0) {
+                    sortBy(table.convertColumnIndexToModel(column));
+                }
+            }
+        });
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        filterTimer = new Timer(FILTER_DEBOUNCE_MS, e -> applyFilter());
+        filterTimer.setRepeats(false);
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                filterTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                filterTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                filterTimer.restart();
+            }
+        });
+
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        filterPanel.add(filterLabel);
+        filterPanel.add(filterField);
+        JPanel north = new JPanel(new BorderLayout(8, 0));
+        north.add(summaryLabel, BorderLayout.CENTER);
+        north.add(filterPanel, BorderLayout.EAST);
+        add(north, BorderLayout.NORTH);
+
+        setLanguage(language);
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.table(language);
+        filterLabel.setText(texts.filterLabel());
+        filterField.setToolTipText(texts.filterTooltip());
+        updateSummary();
+    }
+
+    public void load(int version, JsonQuery.Source source) {
+        if (version == loadedVersion) {
+            return;
+        }
+        loadedVersion = version;
+        cancelWorker();
+        data = null;
+        memory.resize(0);
+        filteredRows = null;
+        sortColumn = -1;
+        tableModel.reset();
+        if (source == null) {
+            summaryLabel.setText(texts.noData());
+            return;
+        }
+        summaryLabel.setText(texts.loading());
+        SwingWorker<ColumnarTable, Void> loader = new SwingWorker<>() {
+            @Override
+            protected ColumnarTable doInBackground() throws Exception {
+                MetricsRegistry.Sample sample = loadTimer.start();
+                try {
+                    return ColumnarTable.read(jsonFactory, source);
+                } finally {
+                    sample.stop();
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    data = get();
+                    memory.resize(data.estimatedBytes());
+                    filteredRows = null;
+                    tableModel.reset();
+                    updateSummary();
+                    if (!filterField.getText().isBlank()) {
+                        applyFilter();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    showFailure(ex);
+                }
+            }
+        };
+        worker = loader;
+        loader.execute();
+    }
+
+    // Drops the loaded table; it is read again from the response the next time the tab is shown.
+    public void release() {
+        cancelWorker();
+        loadedVersion = -1;
+        data = null;
+        memory.resize(0);
+        filteredRows = null;
+        sortColumn = -1;
+        tableModel.reset();
+        summaryLabel.setText(" ");
+    }
+
+    public void dispose() {
+        release();
+        filterTimer.stop();
+        memory.close();
+    }
+
+    private boolean evict() {
+        if (data == null) {
+            return false;
+        }
+        release();
+        return true;
+    }
+
+    public long estimatedBytes() {
+        return data != null ? data.estimatedBytes() : 0;
+    }
+
+    private void sortBy(int column) {
+        if (data == null) {
+            return;
+        }
+        sortAscending = column != sortColumn || !sortAscending;
+        sortColumn = column;
+        refreshHeaders();
+        runViewUpdate();
+    }
+
+    private void refreshHeaders() {
+        for (int i = 0; i < table.getColumnModel().getColumnCount(); i++) {
+            TableColumn tableColumn = table.getColumnModel().getColumn(i);
+            tableColumn.setHeaderValue(tableModel.getColumnName(tableColumn.getModelIndex()));
+        }
+        table.getTableHeader().repaint();
+    }
+
+    private void applyFilter() {
+        if (data != null) {
+            runViewUpdate();
+        }
+    }
+
+    // Filtering and sorting work on a copy of the row index, so the EDT keeps painting the previous view meanwhile.
+    private void runViewUpdate() {
+        cancelWorker();
+        ColumnarTable current = data;
+        String filter = filterField.getText().trim();
+        int column = sortColumn;
+        boolean ascending = sortAscending;
+        summaryLabel.setText(texts.sorting());
+        SwingWorker<int[], Void> updater = new SwingWorker<>() {
+            @Override
+            protected int[] doInBackground() {
+                int[] rows;
+                if (filter.isEmpty()) {
+                    rows = new int[current.rowCount()];
+                    for (int i = 0; i < rows.length; i++) {
+                        rows[i] = i;
+                    }
+                } else {
+                    rows = current.filter(filter);
+                }
+                if (column >= 0) {
+                    ColumnarTable.sort(rows, current.comparator(column, ascending));
+                }
+                return rows;
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || current != data) {
+                    return;
+                }
+                try {
+                    filteredRows = get();
+                    tableModel.fireTableDataChanged();
+                    updateSummary();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    showFailure(ex);
+                }
+            }
+        };
+        worker = updater;
+        updater.execute();
+    }
+
+    private void cancelWorker() {
+        if (worker != null) {
+            worker.cancel(true);
+            worker = null;
+        }
+    }
+
+    private void showFailure(ExecutionException ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        summaryLabel.setText(String.format(texts.failedPattern(),
+                cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName()));
+    }
+
+    private void updateSummary() {
+        if (data == null) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(String.format(texts.summaryPattern(), tableModel.getRowCount(), data.rowCount(),
+                data.columnCount(), ByteSizes.format(data.estimatedBytes())));
+        if (data.arrayName() != null) {
+            text.append(String.format(texts.arrayPattern(), data.arrayName()));
+        }
+        if (data.truncated()) {
+            text.append(String.format(texts.truncatedPattern(), ColumnarTable.MAX_ROWS, ColumnarTable.MAX_COLUMNS));
+        }
+        summaryLabel.setText(text.toString());
+    }
+
+    private class ColumnarTableModel extends AbstractTableModel {
+
+        void reset() {
+            fireTableStructureChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            if (data == null) {
+                return 0;
+            }
+            return filteredRows != null ? filteredRows.length : data.rowCount();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return data != null ? data.columnCount() : 0;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            String name = data.columnName(column);
+            if (column != sortColumn) {
+                return name;
+            }
+            return name + (sortAscending ? " ▲" : " ▼");
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (data.columnType(column)) {
+                case LONG -> Long.class;
+                case DOUBLE -> Double.class;
+                case TEXT -> String.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            int dataRow = filteredRows != null ? filteredRows[row] : row;
+            return data.value(dataRow, column);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+import java.util.Iterator;
+import java.util.Map;
+
+// Retained view of the parsed response. Entries are created the first time their parent is expanded and then kept,
+// and nothing here holds display text: labels are computed by the renderer, so a language or font change only
+// repaints the rows that are visible.
+public class JsonTreeModel implements TreeModel {
+
+    public enum Placeholder {
+        NO_DATA,
+        INVALID,
+        SKIPPED,
+        EVICTED
+    }
+
+    public static final class Entry {
+        private static final Entry[] NO_CHILDREN = new Entry[0];
+
+        private final String name;
+        private final JsonNode node;
+        private Entry[] children;
+
+        private Entry(String name, JsonNode node) {
+            this.name = name;
+            this.node = node;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public JsonNode node() {
+            return node;
+        }
+
+        private Entry[] children() {
+            if (children != null) {
+                return children;
+            }
+            if (node.size() == 0) {
+                children = NO_CHILDREN;
+            } else if (node.isObject()) {
+                children = new Entry[node.size()];
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                for (int i = 0; fields.hasNext(); i++) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    children[i] = new Entry(field.getKey(), field.getValue());
+                }
+            } else {
+                children = new Entry[node.size()];
+                for (int i = 0; i < children.length; i++) {
+                    children[i] = new Entry("[" + i + "]", node.get(i));
+                }
+            }
+            return children;
+        }
+    }
+
+    private final EventListenerList listeners = new EventListenerList();
+    private Object root = Placeholder.NO_DATA;
+
+    public void setPlaceholder(Placeholder placeholder) {
+        root = placeholder;
+        fireStructureChanged();
+    }
+
+    public void setJson(JsonNode node) {
+        root = new Entry(null, node);
+        fireStructureChanged();
+    }
+
+    public boolean hasJson() {
+        return root instanceof Entry;
+    }
+
+    // The root is the only language-dependent row ("Objeto", "Sin datos", ...), every other label comes from the JSON.
+    public void relabelRoot() {
+        TreeModelEvent event = new TreeModelEvent(this, new Object[]{root}, null, null);
+        for (TreeModelListener listener : listeners.getListeners(TreeModelListener.class)) {
+            listener.treeNodesChanged(event);
+        }
+    }
+
+    public static String label(Object value, Language language) {
+        if (value instanceof Placeholder placeholder) {
+            return switch (placeholder) {
+                case NO_DATA -> I18n.panel(language).jsonTreeNoData();
+                case INVALID -> I18n.panel(language).jsonTreeInvalid();
+                case SKIPPED -> I18n.render(language).treeSkipped();
+                case EVICTED -> I18n.memory(language).treeDropped();
+            };
+        }
+        if (!(value instanceof Entry entry)) {
+            return String.valueOf(value);
+        }
+        JsonNode node = entry.node;
+        if (node.isObject()) {
+            return entry.name == null ? I18n.panel(language).jsonTreeObject() : entry.name;
+        }
+        if (node.isArray()) {
+            return entry.name == null ? I18n.panel(language).jsonTreeArray() : entry.name;
+        }
+        String text = node.isTextual() ? '"' + node.asText() + '"' : node.toString();
+        return entry.name == null ? text : entry.name + ": " + text;
+    }
+
+    @Override
+    public Object getRoot() {
+        return root;
+    }
+
+    @Override
+    public Object getChild(Object parent, int index) {
+        return ((Entry) parent).children()[index];
+    }
+
+    @Override
+    public int getChildCount(Object parent) {
+        if (parent instanceof Entry entry && entry.node.isContainerNode()) {
+            return entry.node.size();
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isLeaf(Object node) {
+        return getChildCount(node) == 0;
+    }
+
+    @Override
+    public void valueForPathChanged(TreePath path, Object newValue) {
+    }
+
+    @Override
+    public int getIndexOfChild(Object parent, Object child) {
+        if (!(parent instanceof Entry entry) || child == null) {
+            return -1;
+        }
+        Entry[] children = entry.children();
+        for (int i = 0; i < children.length; i++) {
+            if (children[i] == child) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void addTreeModelListener(TreeModelListener listener) {
+        listeners.add(TreeModelListener.class, listener);
+    }
+
+    @Override
+    public void removeTreeModelListener(TreeModelListener listener) {
+        listeners.remove(TreeModelListener.class, listener);
+    }
+
+    private void fireStructureChanged() {
+        TreeModelEvent event = new TreeModelEvent(this, new Object[]{root});
+        for (TreeModelListener listener : listeners.getListeners(TreeModelListener.class)) {
+            listener.treeStructureChanged(event);
+        }
+    }
+}
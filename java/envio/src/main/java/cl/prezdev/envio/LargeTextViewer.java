@@ -0,0 +1,418 @@
+package cl.prezdev.envio;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+
+public class LargeTextViewer extends JComponent implements Scrollable {
+
+    private static final int MAX_EXTENT = 1 << 30;
+
+    private final int visibleRows;
+    private final int visibleColumns;
+    private String text = "";
+    private int[] lineStarts = {0};
+    private int lineCount = 1;
+    private int maxLineLength;
+    private boolean indexReady = true;
+    private long indexGeneration;
+    private boolean lineWrap;
+    private int wrapColumns = -1;
+    private int[] wrappedRowStarts;
+    private int charWidth;
+    private int lineHeight;
+    private int ascent;
+    private char[] drawBuffer = new char[256];
+    private int selectionAnchor = -1;
+    private int selectionEnd = -1;
+
+    public LargeTextViewer(int rows, int columns) {
+        this.visibleRows = rows;
+        this.visibleColumns = columns;
+        setOpaque(true);
+        setFocusable(true);
+        setBackground(UIManager.getColor("TextArea.background"));
+        setForeground(UIManager.getColor("TextArea.foreground"));
+        setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+        setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+        setCursor(Cursor.getPredefinedCursor(Cursor.TEXT_CURSOR));
+        installSelectionHandling();
+        installKeyBindings();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String value) {
+        text = value != null ? value : "";
+        selectionAnchor = -1;
+        selectionEnd = -1;
+        long generation = ++indexGeneration;
+        String indexedText = text;
+        if (indexedText.length() < 64 * 1024) {
+            applyIndex(generation, LineIndex.build(indexedText));
+            return;
+        }
+        indexReady = false;
+        lineStarts = new int[]{0};
+        lineCount = 1;
+        maxLineLength = 0;
+        invalidateWrap();
+        new SwingWorker<LineIndex, Void>() {
+            @Override
+            protected LineIndex doInBackground() {
+                return LineIndex.build(indexedText);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    applyIndex(generation, get());
+                } catch (Exception ex) {
+                    applyIndex(generation, new LineIndex(new int[]{0}, 1, indexedText.length()));
+                }
+            }
+        }.execute();
+    }
+
+    public boolean getLineWrap() {
+        return lineWrap;
+    }
+
+    public void setLineWrap(boolean lineWrap) {
+        if (this.lineWrap == lineWrap) {
+            return;
+        }
+        this.lineWrap = lineWrap;
+        invalidateWrap();
+    }
+
+    public String getSelectedText() {
+        if (selectionAnchor < 0 || selectionEnd < 0 || selectionAnchor == selectionEnd) {
+            return "";
+        }
+        return text.substring(Math.min(selectionAnchor, selectionEnd), Math.max(selectionAnchor, selectionEnd));
+    }
+
+    public void selectAll() {
+        selectionAnchor = 0;
+        selectionEnd = text.length();
+        repaint();
+    }
+
+    public void copy() {
+        String selected = getSelectedText();
+        if (!selected.isEmpty()) {
+            Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(selected), null);
+        }
+    }
+
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        FontMetrics metrics = getFontMetrics(font);
+        charWidth = Math.max(1, metrics.charWidth('m'));
+        lineHeight = Math.max(1, metrics.getHeight());
+        ascent = metrics.getAscent();
+        invalidateWrap();
+    }
+
+    private void applyIndex(long generation, LineIndex index) {
+        if (generation != indexGeneration) {
+            return;
+        }
+        lineStarts = index.lineStarts();
+        lineCount = index.lineCount();
+        maxLineLength = index.maxLineLength();
+        indexReady = true;
+        invalidateWrap();
+        scrollRectToVisible(new Rectangle(0, 0, 1, 1));
+    }
+
+    private void invalidateWrap() {
+        wrapColumns = -1;
+        wrappedRowStarts = null;
+        revalidate();
+        repaint();
+    }
+
+    private int columnsForWidth(int width) {
+        Insets insets = getInsets();
+        return Math.max(1, (width - insets.left - insets.right) / charWidth);
+    }
+
+    private int availableWidth() {
+        Container parent = getParent();
+        if (parent instanceof JViewport viewport) {
+            return viewport.getWidth();
+        }
+        return getWidth();
+    }
+
+    private int[] wrappedRows(int columns) {
+        if (wrappedRowStarts == null || wrapColumns != columns) {
+            int[] rows = new int[lineCount + 1];
+            int total = 0;
+            for (int line = 0; line < lineCount; line++) {
+                rows[line] = total;
+                int length = lineLength(line);
+                total += Math.max(1, (length + columns - 1) / columns);
+            }
+            rows[lineCount] = total;
+            wrappedRowStarts = rows;
+            wrapColumns = columns;
+        }
+        return wrappedRowStarts;
+    }
+
+    private int totalRows() {
+        if (!lineWrap) {
+            return lineCount;
+        }
+        return wrappedRows(columnsForWidth(availableWidth()))[lineCount];
+    }
+
+    private int lineStart(int line) {
+        return lineStarts[line];
+    }
+
+    private int lineLength(int line) {
+        int start = lineStarts[line];
+        int end = line + 1 < lineCount ? lineStarts[line + 1] - 1 : text.length();
+        if (end > start && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return Math.max(0, end - start);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        Insets insets = getInsets();
+        long height = (long) totalRows() * lineHeight + insets.top + insets.bottom;
+        long width = lineWrap
+                ? availableWidth()
+                : (long) maxLineLength * charWidth + insets.left + insets.right;
+        return new Dimension((int) Math.min(width, MAX_EXTENT), (int) Math.min(height, MAX_EXTENT));
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            Rectangle clip = g.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            g.setColor(getBackground());
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+            if (!indexReady || text.isEmpty()) {
+                return;
+            }
+            g.setFont(getFont());
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            Insets insets = getInsets();
+            int firstRow = Math.max(0, (clip.y - insets.top) / lineHeight);
+            int lastRow = Math.min(totalRows() - 1, (clip.y + clip.height - insets.top) / lineHeight);
+            if (lineWrap) {
+                paintWrappedRows(g, insets, firstRow, lastRow);
+            } else {
+                int firstColumn = Math.max(0, (clip.x - insets.left) / charWidth);
+                int lastColumn = (clip.x + clip.width - insets.left) / charWidth + 1;
+                for (int row = firstRow; row <= lastRow; row++) {
+                    int length = lineLength(row);
+                    int from = Math.min(firstColumn, length);
+                    int to = Math.min(lastColumn, length);
+                    paintSegment(g, insets, row, lineStart(row) + from, to - from, from);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private void paintWrappedRows(Graphics2D g, Insets insets, int firstRow, int lastRow) {
+        int columns = columnsForWidth(availableWidth());
+        int[] rows = wrappedRows(columns);
+        int line = findLineForRow(rows, firstRow);
+        for (int row = firstRow; row <= lastRow && line < lineCount; row++) {
+            while (line + 1 < lineCount && rows[line + 1] <= row) {
+                line++;
+            }
+            int rowInLine = row - rows[line];
+            int length = lineLength(line);
+            int from = Math.min(rowInLine * columns, length);
+            int to = Math.min(from + columns, length);
+            paintSegment(g, insets, row, lineStart(line) + from, to - from, 0);
+        }
+    }
+
+    private int findLineForRow(int[] rows, int row) {
+        int index = Arrays.binarySearch(rows, 0, lineCount, row);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        while (index > 0 && rows[index - 1] == rows[index]) {
+            index--;
+        }
+        return Math.max(0, index);
+    }
+
+    private void paintSegment(Graphics2D g, Insets insets, int row, int offset, int length, int column) {
+        int x = insets.left + column * charWidth;
+        int y = insets.top + row * lineHeight;
+        paintSelection(g, x, y, offset, length);
+        if (length <= 0) {
+            return;
+        }
+        if (drawBuffer.length < length) {
+            drawBuffer = new char[Math.max(length, drawBuffer.length * 2)];
+        }
+        text.getChars(offset, offset + length, drawBuffer, 0);
+        for (int i = 0; i < length; i++) {
+            if (drawBuffer[i] < ' ') {
+                drawBuffer[i] = ' ';
+            }
+        }
+        g.setColor(getForeground());
+        g.drawChars(drawBuffer, 0, length, x, y + ascent);
+    }
+
+    private void paintSelection(Graphics2D g, int x, int y, int offset, int length) {
+        if (selectionAnchor < 0 || selectionAnchor == selectionEnd) {
+            return;
+        }
+        int start = Math.max(Math.min(selectionAnchor, selectionEnd), offset);
+        int end = Math.min(Math.max(selectionAnchor, selectionEnd), offset + length);
+        if (start >= end) {
+            return;
+        }
+        Color selection = UIManager.getColor("TextArea.selectionBackground");
+        g.setColor(selection != null ? selection : Color.GRAY);
+        g.fillRect(x + (start - offset) * charWidth, y, (end - start) * charWidth, lineHeight);
+    }
+
+    private int offsetAt(Point point) {
+        if (!indexReady || text.isEmpty()) {
+            return 0;
+        }
+        Insets insets = getInsets();
+        int row = Math.max(0, Math.min(totalRows() - 1, (point.y - insets.top) / lineHeight));
+        int column = Math.max(0, Math.round((point.x - insets.left) / (float) charWidth));
+        if (!lineWrap) {
+            return lineStart(row) + Math.min(column, lineLength(row));
+        }
+        int columns = columnsForWidth(availableWidth());
+        int[] rows = wrappedRows(columns);
+        int line = findLineForRow(rows, row);
+        int from = (row - rows[line]) * columns;
+        return lineStart(line) + Math.min(from + Math.min(column, columns), lineLength(line));
+    }
+
+    private void installSelectionHandling() {
+        MouseAdapter adapter = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                requestFocusInWindow();
+                selectionAnchor = offsetAt(e.getPoint());
+                selectionEnd = selectionAnchor;
+                repaint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (selectionAnchor < 0) {
+                    return;
+                }
+                selectionEnd = offsetAt(e.getPoint());
+                scrollRectToVisible(new Rectangle(e.getX(), e.getY(), 1, 1));
+                repaint();
+            }
+        };
+        addMouseListener(adapter);
+        addMouseMotionListener(adapter);
+    }
+
+    private void installKeyBindings() {
+        int menuMask = InputEvent.CTRL_DOWN_MASK;
+        InputMap inputMap = getInputMap(WHEN_FOCUSED);
+        ActionMap actionMap = getActionMap();
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_C, menuMask), "copy");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_INSERT, menuMask), "copy");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_A, menuMask), "select-all");
+        actionMap.put("copy", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                copy();
+            }
+        });
+        actionMap.put("select-all", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                selectAll();
+            }
+        });
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Insets insets = getInsets();
+        return new Dimension(visibleColumns * charWidth + insets.left + insets.right,
+                visibleRows * lineHeight + insets.top + insets.bottom);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? lineHeight : charWidth;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        int unit = orientation == SwingConstants.VERTICAL ? lineHeight : charWidth;
+        return Math.max(unit, extent - unit);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return lineWrap;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        Container parent = getParent();
+        return parent instanceof JViewport viewport && viewport.getHeight() > getPreferredSize().height;
+    }
+
+    private record LineIndex(int[] lineStarts, int lineCount, int maxLineLength) {
+
+        static LineIndex build(String text) {
+            int[] starts = new int[1024];
+            int count = 1;
+            int maxLength = 0;
+            int lineStart = 0;
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(i) == '\n') {
+                    maxLength = Math.max(maxLength, i - lineStart);
+                    lineStart = i + 1;
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, count * 2);
+                    }
+                    starts[count++] = lineStart;
+                }
+            }
+            maxLength = Math.max(maxLength, length - lineStart);
+            return new LineIndex(starts, count, maxLength);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package cl.prezdev.envio;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+// Accounting for what responses keep on the heap across every tab. Owners register each artifact with an estimate
+// and a way to drop it; once the total goes over the limit, artifacts are evicted in Kind order (cheapest to rebuild
+// first) and, within a kind, least recently updated first. Only the artifact that just grew is skipped, so the tab
+// on screen can lose its own highlighting or tree too. An owner in the middle of rebuilding several artifacts can
+// decline eviction until it is done and then call enforce(). An evictor may only start the release (hibernation
+// writes a file first); the artifact's bytes then count as freed until it next resizes, so a single overflow does
+// not hibernate every background tab. Evictors run on the thread that caused the overflow, which is the EDT for
+// everything registered today.
+public final class MemoryBudget {
+
+    public enum Kind {
+        HIGHLIGHT,
+        TREE,
+        TABLE,
+        RESPONSE
+    }
+
+    public record Usage(long used, long limit, Map<Kind, Long> byKind, long evictions) {
+    }
+
+    private static final MemoryBudget GLOBAL = new MemoryBudget(MetricsRegistry.global());
+    private static final double DEFAULT_HEAP_FRACTION = 0.5;
+
+    private final List<Artifact> artifacts = new ArrayList<>();
+    private final MetricsRegistry.Counter evictions;
+    private long limit = defaultLimit();
+    private long used;
+    private long releasing;
+    private long updates;
+    private boolean enforcing;
+
+    public MemoryBudget(MetricsRegistry metrics) {
+        this.evictions = metrics.counter("memory.evictions", "artifacts");
+    }
+
+    public static MemoryBudget global() {
+        return GLOBAL;
+    }
+
+    public static long defaultLimit() {
+        return (long) (Runtime.getRuntime().maxMemory() * DEFAULT_HEAP_FRACTION);
+    }
+
+    // 0 keeps the default of half the maximum heap.
+    public void setLimitMegabytes(int megabytes) {
+        setLimit(megabytes > 0 ? megabytes * 1024L * 1024 : defaultLimit());
+    }
+
+    public void setLimit(long bytes) {
+        synchronized (this) {
+            limit = Math.max(0, bytes);
+        }
+        enforce();
+    }
+
+    public synchronized Artifact register(Kind kind, BooleanSupplier evictor) {
+        Artifact artifact = new Artifact(kind, evictor);
+        artifacts.add(artifact);
+        return artifact;
+    }
+
+    public synchronized Usage usage() {
+        Map<Kind, Long> byKind = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            byKind.put(kind, 0L);
+        }
+        for (Artifact artifact : artifacts) {
+            byKind.merge(artifact.kind, artifact.bytes, Long::sum);
+        }
+        return new Usage(used, limit, byKind, evictions.value());
+    }
+
+    private void resize(Artifact artifact, long bytes) {
+        boolean grew;
+        synchronized (this) {
+            if (!artifact.registered) {
+                return;
+            }
+            bytes = Math.max(0, bytes);
+            grew = bytes > artifact.bytes;
+            settle(artifact);
+            used += bytes - artifact.bytes;
+            artifact.bytes = bytes;
+            if (bytes > 0) {
+                artifact.updated = ++updates;
+            }
+        }
+        if (grew) {
+            enforce(artifact);
+        }
+    }
+
+    private synchronized void unregister(Artifact artifact) {
+        if (artifact.registered) {
+            settle(artifact);
+            used -= artifact.bytes;
+            artifact.bytes = 0;
+            artifact.registered = false;
+            artifacts.remove(artifact);
+        }
+    }
+
+    private void settle(Artifact artifact) {
+        if (artifact.releasing) {
+            releasing -= artifact.bytes;
+            artifact.releasing = false;
+        }
+    }
+
+    public void enforce() {
+        enforce(null);
+    }
+
+    private void enforce(Artifact trigger) {
+        List<Artifact> candidates;
+        synchronized (this) {
+            if (enforcing || used - releasing <= limit) {
+                return;
+            }
+            enforcing = true;
+            candidates = new ArrayList<>(artifacts);
+            candidates.sort(Comparator.<Artifact, Kind>comparing(artifact -> artifact.kind)
+                    .thenComparingLong(artifact -> artifact.updated));
+        }
+        try {
+            for (Artifact candidate : candidates) {
+                synchronized (this) {
+                    if (used - releasing <= limit) {
+                        return;
+                    }
+                    if (candidate == trigger || !candidate.registered || candidate.releasing || candidate.bytes == 0) {
+                        continue;
+                    }
+                }
+                if (candidate.evictor.getAsBoolean()) {
+                    evictions.increment();
+                    synchronized (this) {
+                        if (candidate.registered && candidate.bytes > 0 && !candidate.releasing) {
+                            candidate.releasing = true;
+                            releasing += candidate.bytes;
+                        }
+                    }
+                }
+            }
+        } finally {
+            synchronized (this) {
+                enforcing = false;
+            }
+        }
+    }
+
+    public final class Artifact {
+        private final Kind kind;
+        private final BooleanSupplier evictor;
+        private long bytes;
+        private long updated;
+        private boolean releasing;
+        private boolean registered = true;
+
+        private Artifact(Kind kind, BooleanSupplier evictor) {
+            this.kind = kind;
+            this.evictor = evictor;
+        }
+
+        public void resize(long bytes) {
+            MemoryBudget.this.resize(this, bytes);
+        }
+
+        public long bytes() {
+            synchronized (MemoryBudget.this) {
+                return bytes;
+            }
+        }
+
+        public void close() {
+            unregister(this);
+        }
+    }
+}
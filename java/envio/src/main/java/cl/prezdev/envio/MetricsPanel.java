@@ -0,0 +1,156 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.MetricsTexts;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+public class MetricsPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    private final MetricsRegistry registry;
+    private final MetricsTableModel tableModel = new MetricsTableModel();
+    private final JTable table = new JTable(tableModel);
+    private final JButton exportButton = new JButton();
+    private final JButton resetButton = new JButton();
+    private final JLabel messageLabel = new JLabel(" ");
+    private final Timer refreshTimer;
+    private MetricsTexts texts;
+
+    public MetricsPanel(MetricsRegistry registry, Language language) {
+        this.registry = registry;
+        this.texts = I18n.metrics(language);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        table.setFillsViewportHeight(true);
+        table.setAutoCreateRowSorter(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        exportButton.addActionListener(e -> exportSnapshot());
+        resetButton.addActionListener(e -> {
+            registry.reset();
+            refresh();
+        });
+        buttonPanel.add(resetButton);
+        buttonPanel.add(exportButton);
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(messageLabel, BorderLayout.WEST);
+        southPanel.add(buttonPanel, BorderLayout.EAST);
+        add(southPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+        refreshTimer.start();
+
+        setLanguage(language);
+        refresh();
+    }
+
+    public void dispose() {
+        refreshTimer.stop();
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.metrics(language);
+        exportButton.setText(texts.exportButton());
+        resetButton.setText(texts.resetButton());
+        tableModel.fireTableStructureChanged();
+    }
+
+    private void refresh() {
+        tableModel.setSnapshots(registry.snapshot());
+    }
+
+    private void exportSnapshot() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle(texts.exportDialogTitle());
+        chooser.setSelectedFile(new File("envio-metrics.json"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        try {
+            registry.exportJson(file.toPath());
+            messageLabel.setText(String.format(texts.exportDonePattern(), file.getAbsolutePath()));
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this,
+                    String.format(texts.exportErrorPattern(), ex.getMessage()),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private class MetricsTableModel extends AbstractTableModel {
+        private List<MetricsRegistry.MetricSnapshot> snapshots = List.of();
+
+        void setSnapshots(List<MetricsRegistry.MetricSnapshot> snapshots) {
+            boolean sameRows = snapshots.size() == this.snapshots.size();
+            this.snapshots = snapshots;
+            if (sameRows) {
+                fireTableRowsUpdated(0, snapshots.size() - 1);
+            } else {
+                fireTableDataChanged();
+            }
+        }
+
+        @Override
+        public int getRowCount() {
+            return snapshots.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return texts.columns().size();
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return texts.columns().get(column);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return switch (columnIndex) {
+                case 0, 1, 10 -> String.class;
+                case 2 -> Long.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            MetricsRegistry.MetricSnapshot snapshot = snapshots.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> snapshot.name();
+                case 1 -> snapshot.type();
+                case 2 -> snapshot.count();
+                case 3 -> round(snapshot.last());
+                case 4 -> round(snapshot.mean());
+                case 5 -> round(snapshot.p50());
+                case 6 -> round(snapshot.p95());
+                case 7 -> round(snapshot.p99());
+                case 8 -> round(snapshot.max());
+                case 9 -> round(snapshot.total());
+                case 10 -> snapshot.unit();
+                default -> "";
+            };
+        }
+
+        private double round(double value) {
+            return Math.round(value * 100.0) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name, String unit) {
+        return register(name, () -> new Counter(name, unit), Counter.class);
+    }
+
+    public Histogram histogram(String name, String unit) {
+        return register(name, () -> new Histogram(name, unit), Histogram.class);
+    }
+
+    public Timer timer(String name) {
+        return register(name, () -> new Timer(name), Timer.class);
+    }
+
+    public List<MetricSnapshot> snapshot() {
+        List<MetricSnapshot> snapshots = new ArrayList<>(metrics.size());
+        for (Metric metric : metrics.values()) {
+            snapshots.add(metric.snapshot());
+        }
+        return snapshots;
+    }
+
+    public void reset() {
+        metrics.values().forEach(Metric::reset);
+    }
+
+    public void exportJson(Path path) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("metrics", snapshot());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), document);
+    }
+
+    private <T extends Metric> T register(String name, Supplier<T> factory, Class<T> type) {
+        Metric metric = metrics.computeIfAbsent(name, key -> factory.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalStateException("La métrica " + name + " ya está registrada como " + metric.type());
+        }
+        return type.cast(metric);
+    }
+
+    public record MetricSnapshot(
+            String name,
+            String type,
+            String unit,
+            long count,
+            double last,
+            double mean,
+            double p50,
+            double p95,
+            double p99,
+            double max,
+            double total
+    ) {
+    }
+
+    private interface Metric {
+        String type();
+
+        MetricSnapshot snapshot();
+
+        void reset();
+    }
+
+    public static final class Counter implements Metric {
+        private final String name;
+        private final String unit;
+        private final LongAdder value = new LongAdder();
+        private final AtomicLong last = new AtomicLong();
+        private final LongAdder increments = new LongAdder();
+
+        private Counter(String name, String unit) {
+            this.name = name;
+            this.unit = unit;
+        }
+
+        public void increment() {
+            add(1);
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+            increments.increment();
+            last.set(amount);
+        }
+
+        public long value() {
+            return value.sum();
+        }
+
+        @Override
+        public String type() {
+            return "counter";
+        }
+
+        @Override
+        public MetricSnapshot snapshot() {
+            long total = value.sum();
+            long count = increments.sum();
+            double mean = count == 0 ? 0 : (double) total / count;
+            return new MetricSnapshot(name, type(), unit, count, last.get(), mean, 0, 0, 0, 0, total);
+        }
+
+        @Override
+        public void reset() {
+            value.reset();
+            increments.reset();
+            last.set(0);
+        }
+    }
+
+    public static class Histogram implements Metric {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+        private final String name;
+        private final String unit;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong last = new AtomicLong();
+
+        private Histogram(String name, String unit) {
+            this.name = name;
+            this.unit = unit;
+        }
+
+        public void record(long value) {
+            long sanitized = Math.max(0, value);
+            buckets.incrementAndGet(bucketIndex(sanitized));
+            count.increment();
+            sum.add(sanitized);
+            max.accumulateAndGet(sanitized, Math::max);
+            last.set(sanitized);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double percentile(double percentile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100.0 * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        @Override
+        public String type() {
+            return "histogram";
+        }
+
+        protected double scale() {
+            return 1.0;
+        }
+
+        @Override
+        public MetricSnapshot snapshot() {
+            long total = count.sum();
+            double scale = scale();
+            double mean = total == 0 ? 0 : (double) sum.sum() / total;
+            return new MetricSnapshot(
+                    name,
+                    type(),
+                    unit,
+                    total,
+                    last.get() / scale,
+                    mean / scale,
+                    percentile(50) / scale,
+                    percentile(95) / scale,
+                    percentile(99) / scale,
+                    max.get() / scale,
+                    sum.sum() / scale
+            );
+        }
+
+        @Override
+        public void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            sum.reset();
+            max.set(0);
+            last.set(0);
+        }
+
+        private static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int shift = exponent - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+            return (shift + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long subBucket = index % SUB_BUCKETS;
+            long lower = (SUB_BUCKETS + subBucket) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+
+    public static final class Timer extends Histogram {
+
+        private Timer(String name) {
+            super(name, "ms");
+        }
+
+        public Sample start() {
+            return new Sample(this, System.nanoTime());
+        }
+
+        public <T> T time(Supplier<T> action) {
+            Sample sample = start();
+            try {
+                return action.get();
+            } finally {
+                sample.stop();
+            }
+        }
+
+        public void time(Runnable action) {
+            Sample sample = start();
+            try {
+                action.run();
+            } finally {
+                sample.stop();
+            }
+        }
+
+        @Override
+        public String type() {
+            return "timer";
+        }
+
+        @Override
+        protected double scale() {
+            return 1_000_000.0;
+        }
+    }
+
+    public record Sample(Timer timer, long startNanos) {
+        public long stop() {
+            long elapsed = System.nanoTime() - startNanos;
+            timer.record(elapsed);
+            return elapsed;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package cl.prezdev.envio;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+final class Preconnector {
+
+    private static final long DEBOUNCE_MILLIS = 400;
+    // Servers commonly drop idle keep-alive connections after 30-60 s, well before the client pool does.
+    private static final long WARM_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final HttpClient httpClient;
+    private final HostRateLimiter rateLimiter;
+    private final ConcurrentMap<String, Use> lastUse = new ConcurrentHashMap<>();
+    private final MetricsRegistry.Counter preconnectCounter;
+    private final MetricsRegistry.Timer preconnectTimer;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "envio-preconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pending;
+
+    Preconnector(HttpClient httpClient, HostRateLimiter rateLimiter, MetricsRegistry metrics) {
+        this.httpClient = httpClient;
+        this.rateLimiter = rateLimiter;
+        this.preconnectCounter = metrics.counter("http.preconnects", "");
+        this.preconnectTimer = metrics.timer("http.preconnect");
+    }
+
+    synchronized void schedule(URI uri) {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        String origin = origin(uri);
+        // Plain HTTP saves only a TCP round trip, and the client does not pool a connection whose first exchange
+        // was not a GET, so only HTTPS origins are warmed.
+        if (origin == null || !origin.startsWith("https:")) {
+            return;
+        }
+        pending = scheduler.schedule(() -> warm(uri), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    RequestTiming.Connection connectionState(URI uri) {
+        String origin = origin(uri);
+        Use use = origin != null ? lastUse.get(origin) : null;
+        if (use == null || System.nanoTime() - use.atNanos() > WARM_WINDOW_NANOS) {
+            return RequestTiming.Connection.NEW;
+        }
+        return use.preconnected() ? RequestTiming.Connection.PRECONNECTED : RequestTiming.Connection.REUSED;
+    }
+
+    void markUsed(URI uri) {
+        String origin = origin(uri);
+        if (origin != null) {
+            lastUse.put(origin, new Use(System.nanoTime(), false));
+        }
+    }
+
+    void forget(URI uri) {
+        String origin = origin(uri);
+        if (origin != null) {
+            lastUse.remove(origin);
+        }
+    }
+
+    private void warm(URI uri) {
+        String origin = origin(uri);
+        if (connectionState(uri) != RequestTiming.Connection.NEW) {
+            return;
+        }
+        if (!rateLimiter.isUnlimited() && !rateLimiter.bucket(uri).tryAcquire()) {
+            return;
+        }
+        try {
+            // OPTIONS on the origin root completes the TLS handshake and leaves the connection in the pool.
+            // HEAD would be lighter, but the client closes connections after HEAD responses.
+            HttpRequest request = HttpRequest.newBuilder(URI.create(origin + "/"))
+                    .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+                    .timeout(WARM_UP_TIMEOUT)
+                    .build();
+            MetricsRegistry.Sample sample = preconnectTimer.start();
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            sample.stop();
+            preconnectCounter.increment();
+            lastUse.put(origin, new Use(System.nanoTime(), true));
+        } catch (IOException | IllegalArgumentException ex) {
+            // Best effort: the real request reports any failure.
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String origin(URI uri) {
+        if (uri == null || uri.getHost() == null || uri.getScheme() == null) {
+            return null;
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (scheme.equals("http")) {
+            port = port == -1 ? 80 : port;
+        } else if (scheme.equals("https")) {
+            port = port == -1 ? 443 : port;
+        } else {
+            return null;
+        }
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+    }
+
+    private record Use(long atNanos, boolean preconnected) {
+    }
+}
@@ -0,0 +1,56 @@
+package cl.prezdev.envio;
+
+public class RecordRingBuffer<T> {
+
+    private final Object[] items;
+    private int head;
+    private int size;
+    private long totalAdded;
+
+    public RecordRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        this.items = new Object[capacity];
+    }
+
+    public synchronized void add(T item) {
+        int index = (head + size) % items.length;
+        items[index] = item;
+        if (size == items.length) {
+            head = (head + 1) % items.length;
+        } else {
+            size++;
+        }
+        totalAdded++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized T get(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return (T) items[(head + index) % items.length];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long totalAdded() {
+        return totalAdded;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < items.length; i++) {
+            items[i] = null;
+        }
+        head = 0;
+        size = 0;
+        totalAdded = 0;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+}
@@ -0,0 +1,49 @@
+package cl.prezdev.envio;
+
+public enum RenderStrategy {
+    FULL,
+    PLAIN,
+    COLLAPSED,
+    PREVIEW,
+    RAW_ONLY;
+
+    public static final long PLAIN_THRESHOLD = 256L * 1024;
+    public static final long COLLAPSED_THRESHOLD = 1024L * 1024;
+    // Bodies above this are spilled to disk instead of being held as a byte array plus a formatted copy.
+    public static final long PREVIEW_THRESHOLD = 4L * 1024 * 1024;
+    public static final long RAW_ONLY_THRESHOLD = 64L * 1024 * 1024;
+    public static final int PREVIEW_CHARS = 256 * 1024;
+    public static final int RAW_PREVIEW_BYTES = 64 * 1024;
+
+    public static RenderStrategy forSize(long bytes) {
+        if (bytes > RAW_ONLY_THRESHOLD) {
+            return RAW_ONLY;
+        }
+        if (bytes > PREVIEW_THRESHOLD) {
+            return PREVIEW;
+        }
+        if (bytes > COLLAPSED_THRESHOLD) {
+            return COLLAPSED;
+        }
+        if (bytes > PLAIN_THRESHOLD) {
+            return PLAIN;
+        }
+        return FULL;
+    }
+
+    public boolean highlights() {
+        return this == FULL;
+    }
+
+    public boolean buildsTree() {
+        return this == FULL || this == PLAIN || this == COLLAPSED;
+    }
+
+    public boolean expandsTree() {
+        return this == FULL || this == PLAIN;
+    }
+
+    public boolean truncates() {
+        return this == PREVIEW || this == RAW_ONLY;
+    }
+}
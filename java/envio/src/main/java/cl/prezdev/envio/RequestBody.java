@@ -0,0 +1,322 @@
+package cl.prezdev.envio;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+public interface RequestBody {
+
+    int PREVIEW_BYTES = 4096;
+
+    String contentType();
+
+    long contentLength();
+
+    HttpRequest.BodyPublisher publisher() throws IOException;
+
+    String preview();
+
+    default boolean isEmpty() {
+        return contentLength() == 0;
+    }
+
+    static RequestBody none() {
+        return Text.EMPTY;
+    }
+
+    static RequestBody json(String text) {
+        return text == null || text.isBlank() ? Text.EMPTY : new Text(text, "application/json");
+    }
+
+    static RequestBody file(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new FileNotFoundException(file.toString());
+        }
+        return new FileBody(file, guessContentType(file), Files.size(file));
+    }
+
+    static RequestBody generated(String line, long count) {
+        return new Generated((line + "\n").getBytes(StandardCharsets.UTF_8), Math.max(0, count));
+    }
+
+    static RequestBody form(List<FormField> fields) {
+        StringBuilder builder = new StringBuilder();
+        for (FormField field : fields) {
+            if (!builder.isEmpty()) {
+                builder.append('&');
+            }
+            builder.append(URLEncoder.encode(field.name(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(field.value(), StandardCharsets.UTF_8));
+        }
+        return builder.isEmpty() ? Text.EMPTY : new Text(builder.toString(), "application/x-www-form-urlencoded");
+    }
+
+    static RequestBody multipart(List<FormField> fields) throws IOException {
+        byte[] random = new byte[12];
+        ThreadLocalRandom.current().nextBytes(random);
+        StringBuilder boundary = new StringBuilder("envio-");
+        for (byte value : random) {
+            boundary.append(Character.forDigit((value >> 4) & 0xf, 16)).append(Character.forDigit(value & 0xf, 16));
+        }
+        List<Part> parts = new ArrayList<>(fields.size());
+        for (FormField field : fields) {
+            StringBuilder head = new StringBuilder()
+                    .append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(escapeQuotes(field.name())).append('"');
+            if (field.file() != null) {
+                if (!Files.isRegularFile(field.file())) {
+                    throw new FileNotFoundException(field.file().toString());
+                }
+                head.append("; filename=\"").append(escapeQuotes(field.file().getFileName().toString())).append("\"\r\n")
+                        .append("Content-Type: ").append(guessContentType(field.file())).append("\r\n");
+                parts.add(new Part(head.append("\r\n").toString().getBytes(StandardCharsets.UTF_8), null, field.file(), Files.size(field.file())));
+            } else {
+                head.append("\r\n\r\n");
+                byte[] value = field.value().getBytes(StandardCharsets.UTF_8);
+                parts.add(new Part(head.toString().getBytes(StandardCharsets.UTF_8), value, null, value.length));
+            }
+        }
+        return new Multipart(boundary.toString(), List.copyOf(parts));
+    }
+
+    private static String escapeQuotes(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    private static String guessContentType(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".json")) {
+            return "application/json";
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return "application/x-ndjson";
+        }
+        try {
+            String probed = Files.probeContentType(file);
+            if (probed != null) {
+                return probed;
+            }
+        } catch (IOException ignored) {
+            // Fall back to a generic type; the server decides what to do with it.
+        }
+        return "application/octet-stream";
+    }
+
+    private static String truncated(String head, long totalBytes, long shownBytes) {
+        if (shownBytes >= totalBytes) {
+            return head;
+        }
+        return head + "\n…\n[" + ByteSizes.format(shownBytes) + " / " + ByteSizes.format(totalBytes) + "]";
+    }
+
+    private static boolean isTextual(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("json") || contentType.contains("xml");
+    }
+
+    record Text(String text, String contentType) implements RequestBody {
+
+        private static final Text EMPTY = new Text("", "application/json");
+
+        @Override
+        public long contentLength() {
+            return text.isEmpty() ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public HttpRequest.BodyPublisher publisher() {
+            return HttpRequest.BodyPublishers.ofString(text, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String preview() {
+            return text;
+        }
+    }
+
+    record FileBody(Path file, String contentType, long contentLength) implements RequestBody {
+
+        @Override
+        public HttpRequest.BodyPublisher publisher() throws FileNotFoundException {
+            return HttpRequest.BodyPublishers.ofFile(file);
+        }
+
+        @Override
+        public String preview() {
+            byte[] head;
+            try (InputStream input = Files.newInputStream(file)) {
+                head = input.readNBytes(PREVIEW_BYTES);
+            } catch (IOException ex) {
+                return "[" + file + ": " + ex.getMessage() + "]";
+            }
+            String text = isTextual(contentType) ? new String(head, StandardCharsets.UTF_8) : HexDump.format(head);
+            return truncated(text, contentLength, head.length);
+        }
+    }
+
+    record Generated(byte[] line, long count) implements RequestBody {
+
+        @Override
+        public String contentType() {
+            return "application/x-ndjson";
+        }
+
+        @Override
+        public long contentLength() {
+            return line.length * count;
+        }
+
+        @Override
+        public HttpRequest.BodyPublisher publisher() {
+            return HttpRequest.BodyPublishers.fromPublisher(
+                    HttpRequest.BodyPublishers.ofInputStream(() -> new RepeatingInputStream(line, count)),
+                    contentLength());
+        }
+
+        @Override
+        public String preview() {
+            int lines = (int) Math.min(count, Math.max(1, PREVIEW_BYTES / Math.max(1, line.length)));
+            StringBuilder builder = new StringBuilder();
+            String text = new String(line, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines; i++) {
+                builder.append(text);
+            }
+            return truncated(builder.toString(), contentLength(), (long) lines * line.length);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Generated generated && count == generated.count && Arrays.equals(line, generated.line);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(line) + Long.hashCode(count);
+        }
+
+        @Override
+        public String toString() {
+            return "Generated[" + count + " x " + line.length + " B]";
+        }
+    }
+
+    record FormField(String name, String value, Path file) {
+
+        public static FormField text(String name, String value) {
+            return new FormField(name, value != null ? value : "", null);
+        }
+
+        public static FormField file(String name, Path file) {
+            return new FormField(name, file.toString(), file);
+        }
+    }
+
+    record Part(byte[] head, byte[] value, Path file, long length) {
+    }
+
+    record Multipart(String boundary, List<Part> parts) implements RequestBody {
+
+        private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+        @Override
+        public String contentType() {
+            return "multipart/form-data; boundary=" + boundary;
+        }
+
+        @Override
+        public long contentLength() {
+            long length = closing().length;
+            for (Part part : parts) {
+                length += part.head().length + part.length() + CRLF.length;
+            }
+            return length;
+        }
+
+        @Override
+        public HttpRequest.BodyPublisher publisher() throws FileNotFoundException {
+            List<HttpRequest.BodyPublisher> publishers = new ArrayList<>(parts.size() * 3 + 1);
+            for (Part part : parts) {
+                publishers.add(HttpRequest.BodyPublishers.ofByteArray(part.head()));
+                publishers.add(part.file() != null
+                        ? HttpRequest.BodyPublishers.ofFile(part.file())
+                        : HttpRequest.BodyPublishers.ofByteArray(part.value()));
+                publishers.add(HttpRequest.BodyPublishers.ofByteArray(CRLF));
+            }
+            publishers.add(HttpRequest.BodyPublishers.ofByteArray(closing()));
+            return HttpRequest.BodyPublishers.concat(publishers.toArray(new HttpRequest.BodyPublisher[0]));
+        }
+
+        @Override
+        public String preview() {
+            StringBuilder builder = new StringBuilder();
+            for (Part part : parts) {
+                builder.append(new String(part.head(), StandardCharsets.UTF_8));
+                if (part.file() != null) {
+                    builder.append("<").append(part.file()).append(", ").append(ByteSizes.format(part.length())).append(">");
+                } else {
+                    int shown = Math.min(part.value().length, PREVIEW_BYTES);
+                    builder.append(truncated(new String(part.value(), 0, shown, StandardCharsets.UTF_8), part.length(), shown));
+                }
+                builder.append("\r\n");
+                if (builder.length() > PREVIEW_BYTES * 4) {
+                    builder.append("…\n");
+                    return builder.toString();
+                }
+            }
+            return builder.append(new String(closing(), StandardCharsets.US_ASCII)).toString();
+        }
+
+        private byte[] closing() {
+            return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    final class RepeatingInputStream extends InputStream {
+        private final byte[] line;
+        private long remainingLines;
+        private int position;
+
+        RepeatingInputStream(byte[] line, long count) {
+            this.line = line;
+            this.remainingLines = line.length == 0 ? 0 : count;
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (remainingLines == 0) {
+                return -1;
+            }
+            int written = 0;
+            while (written < length && remainingLines > 0) {
+                int chunk = Math.min(length - written, line.length - position);
+                System.arraycopy(line, position, buffer, offset + written, chunk);
+                written += chunk;
+                position += chunk;
+                if (position == line.length) {
+                    position = 0;
+                    remainingLines--;
+                }
+            }
+            return written;
+        }
+    }
+}
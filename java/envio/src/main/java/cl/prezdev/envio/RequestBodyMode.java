@@ -0,0 +1,9 @@
+package cl.prezdev.envio;
+
+public enum RequestBodyMode {
+    TEXT,
+    FILE,
+    GENERATED,
+    FORM,
+    MULTIPART
+}
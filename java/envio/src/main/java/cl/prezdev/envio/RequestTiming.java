@@ -0,0 +1,34 @@
+package cl.prezdev.envio;
+
+public record RequestTiming(long headersNanos, long totalNanos, long bytesSent, long bytesReceived,
+                            Connection connection) {
+
+    // An estimate from when the origin was last used by this client, not what the connection pool actually did:
+    // the server may have closed an idle connection, and HTTP/2 can share one across origins.
+    public enum Connection {
+        NEW,
+        REUSED,
+        PRECONNECTED
+    }
+
+    public double headersMillis() {
+        return headersNanos / 1_000_000.0;
+    }
+
+    public double totalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    public boolean isWarm() {
+        return connection != null && connection != Connection.NEW;
+    }
+
+    public double uploadBytesPerSecond() {
+        return headersNanos > 0 ? bytesSent * 1_000_000_000.0 / headersNanos : 0;
+    }
+
+    public double downloadBytesPerSecond() {
+        long bodyNanos = totalNanos - headersNanos;
+        return bodyNanos > 0 ? bytesReceived * 1_000_000_000.0 / bodyNanos : 0;
+    }
+}
@@ -0,0 +1,193 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.WorkspaceTexts;
+import com.formdev.flatlaf.FlatClientProperties;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// Several request tabs in one window. They share the HTTP client (connection pool, limiters), the settings and one
+// Environments instance; each tab keeps its own response, which is hibernated to disk after it has been in the
+// background for Settings.tabHibernateMinutes and restored when the tab is selected again.
+public class RequestWorkspace extends JPanel {
+
+    private static final int HIBERNATION_CHECK_MS = 15_000;
+
+    private final Settings settings;
+    private final Consumer<Settings> settingsChangedListener;
+    private final EnvironmentManager environmentManager;
+    private final Environments environments;
+    private final HttpClientService httpClientService = new HttpClientService(MetricsRegistry.global());
+    private final JTabbedPane tabs = new JTabbedPane() {
+        // Computed on hover so the footprint is current rather than sampled.
+        @Override
+        public String getToolTipText(MouseEvent event) {
+            int index = indexAtLocation(event.getX(), event.getY());
+            return index >= 0 ? describe((HttpClientPanel) getComponentAt(index)) : null;
+        }
+    };
+    private final JButton newTabButton = new JButton("+");
+    private final Map<HttpClientPanel, Long> inactiveSince = new HashMap<>();
+    private HttpClientPanel selected;
+    private Language language;
+    private WorkspaceTexts texts;
+
+    public RequestWorkspace(Settings settings, Consumer<Settings> settingsChangedListener, EnvironmentManager environmentManager) {
+        this.settings = settings;
+        this.settingsChangedListener = settingsChangedListener;
+        this.environmentManager = environmentManager;
+        this.environments = environmentManager.load();
+        this.language = settings.getLanguageEnum();
+        this.texts = I18n.workspace(language);
+
+        setLayout(new BorderLayout());
+        tabs.setTabLayoutPolicy(JTabbedPane.SCROLL_TAB_LAYOUT);
+        tabs.putClientProperty(FlatClientProperties.TABBED_PANE_TAB_CLOSE_CALLBACK,
+                (BiConsumer<JTabbedPane, Integer>) (pane, index) -> closeTab(index));
+        tabs.putClientProperty(FlatClientProperties.TABBED_PANE_TRAILING_COMPONENT, newTabButton);
+        newTabButton.addActionListener(e -> addTab());
+        tabs.addChangeListener(e -> onTabSelected());
+        ToolTipManager.sharedInstance().registerComponent(tabs);
+        add(tabs, BorderLayout.CENTER);
+
+        new Timer(HIBERNATION_CHECK_MS, e -> hibernateIdleTabs()).start();
+        MemoryBudget.global().setLimitMegabytes(settings.getMemoryBudgetMegabytes());
+
+        addTab();
+        setLanguage(language, false);
+    }
+
+    public HttpClientPanel addTab() {
+        HttpClientPanel panel = new HttpClientPanel(settings, settingsChangedListener, environmentManager, environments,
+                httpClientService);
+        panel.addPropertyChangeListener(HttpClientPanel.REQUEST_TITLE_PROPERTY, event -> {
+            int index = tabs.indexOfComponent(panel);
+            if (index >= 0) {
+                tabs.setTitleAt(index, String.valueOf(event.getNewValue()));
+            }
+        });
+        panel.addPropertyChangeListener(HttpClientPanel.ENVIRONMENTS_PROPERTY, event -> {
+            for (HttpClientPanel other : panels()) {
+                if (other != panel) {
+                    other.environmentsChanged();
+                }
+            }
+        });
+        tabs.addTab(texts.newTabTitle(), panel);
+        updateClosableTabs();
+        tabs.setSelectedComponent(panel);
+        return panel;
+    }
+
+    public void closeSelectedTab() {
+        closeTab(tabs.getSelectedIndex());
+    }
+
+    private void closeTab(int index) {
+        if (index < 0 || tabs.getTabCount() <= 1) {
+            return;
+        }
+        HttpClientPanel panel = (HttpClientPanel) tabs.getComponentAt(index);
+        tabs.removeTabAt(index);
+        inactiveSince.remove(panel);
+        panel.dispose();
+        updateClosableTabs();
+    }
+
+    public HttpClientPanel selectedPanel() {
+        return (HttpClientPanel) tabs.getSelectedComponent();
+    }
+
+    public void applySample(HttpMethod method, String url, String body, String statusMessage) {
+        selectedPanel().applySample(method, url, body, statusMessage);
+    }
+
+    public void openBatchDialog() {
+        selectedPanel().openBatchDialog();
+    }
+
+    public void openCapacityDialog() {
+        selectedPanel().openCapacityDialog();
+    }
+
+    public void setUiScale(float scale) {
+        for (HttpClientPanel panel : panels()) {
+            panel.setUiScale(scale);
+        }
+    }
+
+    public void applySettings() {
+        MemoryBudget.global().setLimitMegabytes(settings.getMemoryBudgetMegabytes());
+        for (HttpClientPanel panel : panels()) {
+            panel.applySettings();
+        }
+    }
+
+    public void setLanguage(Language language) {
+        setLanguage(language, true);
+    }
+
+    private void setLanguage(Language language, boolean persist) {
+        this.language = language != null ? language : Language.ES;
+        this.texts = I18n.workspace(this.language);
+        newTabButton.setToolTipText(texts.newTabTooltip());
+        for (HttpClientPanel panel : panels()) {
+            panel.setLanguage(this.language, persist);
+        }
+    }
+
+    private void onTabSelected() {
+        HttpClientPanel panel = selectedPanel();
+        if (panel == selected) {
+            return;
+        }
+        if (selected != null && tabs.indexOfComponent(selected) >= 0) {
+            inactiveSince.put(selected, System.nanoTime());
+        }
+        selected = panel;
+        if (panel != null) {
+            inactiveSince.remove(panel);
+            panel.restore();
+        }
+    }
+
+    private void hibernateIdleTabs() {
+        int minutes = settings.getTabHibernateMinutes();
+        if (minutes <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Map.Entry<HttpClientPanel, Long> entry : inactiveSince.entrySet()) {
+            if (now - entry.getValue() >= TimeUnit.MINUTES.toNanos(minutes)) {
+                entry.getKey().hibernate();
+            }
+        }
+    }
+
+    private String describe(HttpClientPanel panel) {
+        return panel.isHibernated()
+                ? String.format(texts.hibernatedPattern(), ByteSizes.format(panel.hibernatedBytes()))
+                : String.format(texts.footprintPattern(), ByteSizes.format(panel.estimatedBytes()));
+    }
+
+    private void updateClosableTabs() {
+        boolean closable = tabs.getTabCount() > 1;
+        for (int i = 0; i < tabs.getTabCount(); i++) {
+            ((JComponent) tabs.getComponentAt(i)).putClientProperty(FlatClientProperties.TABBED_PANE_TAB_CLOSABLE, closable);
+        }
+    }
+
+    private HttpClientPanel[] panels() {
+        HttpClientPanel[] panels = new HttpClientPanel[tabs.getTabCount()];
+        for (int i = 0; i < panels.length; i++) {
+            panels[i] = (HttpClientPanel) tabs.getComponentAt(i);
+        }
+        return panels;
+    }
+}
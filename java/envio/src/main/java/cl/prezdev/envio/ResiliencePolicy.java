@@ -0,0 +1,50 @@
+package cl.prezdev.envio;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public record ResiliencePolicy(int maxAttempts, long baseBackoffMillis, long maxBackoffMillis, boolean honorRetryAfter,
+                               long maxRetryAfterMillis, boolean retryNonIdempotent, boolean hedging, long minHedgeDelayMillis) {
+
+    private static final long MAX_RETRY_AFTER_MILLIS = 60_000;
+    private static final long MIN_HEDGE_DELAY_MILLIS = 50;
+
+    public ResiliencePolicy {
+        maxAttempts = Math.max(1, maxAttempts);
+        baseBackoffMillis = Math.max(0, baseBackoffMillis);
+        maxBackoffMillis = Math.max(baseBackoffMillis, maxBackoffMillis);
+        maxRetryAfterMillis = Math.max(0, maxRetryAfterMillis);
+        minHedgeDelayMillis = Math.max(1, minHedgeDelayMillis);
+    }
+
+    public static ResiliencePolicy none() {
+        return new ResiliencePolicy(1, 0, 0, false, 0, false, false, MIN_HEDGE_DELAY_MILLIS);
+    }
+
+    public static ResiliencePolicy from(Settings settings) {
+        return new ResiliencePolicy(settings.getRetryMaxAttempts(), settings.getRetryBaseDelayMillis(),
+                settings.getRetryMaxDelayMillis(), settings.isRetryHonorRetryAfter(), MAX_RETRY_AFTER_MILLIS,
+                settings.isRetryNonIdempotent(), settings.isHedgingEnabled(), MIN_HEDGE_DELAY_MILLIS);
+    }
+
+    public boolean allowsRetry(HttpMethod method) {
+        return maxAttempts > 1 && (retryNonIdempotent || method.idempotent());
+    }
+
+    public boolean allowsHedging(HttpMethod method) {
+        return hedging && method.idempotent();
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || (statusCode >= 500 && statusCode != 501 && statusCode != 505);
+    }
+
+    // Full jitter: a uniform delay in [0, min(max, base * 2^(attempt - 1))].
+    public long backoffMillis(int attempt) {
+        if (baseBackoffMillis == 0) {
+            return 0;
+        }
+        int shift = Math.min(attempt - 1, 30);
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << shift);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,327 @@
+package cl.prezdev.envio;
+
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class ResilientSender {
+
+    private static final int HEDGE_MIN_SAMPLES = 20;
+
+    private final HttpClient httpClient;
+    private final MetricsRegistry.Histogram headersHistogram;
+    private final MetricsRegistry.Counter retryCounter;
+    private final MetricsRegistry.Counter hedgeCounter;
+    private final MetricsRegistry.Counter hedgeWinCounter;
+    private final MetricsRegistry.Timer wastedTimer;
+    private final HostRateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private volatile ResiliencePolicy policy = ResiliencePolicy.none();
+
+    ResilientSender(HttpClient httpClient, MetricsRegistry metrics, MetricsRegistry.Histogram headersHistogram,
+                    HostRateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter) {
+        this.httpClient = httpClient;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.headersHistogram = headersHistogram;
+        this.retryCounter = metrics.counter("http.retries", "");
+        this.hedgeCounter = metrics.counter("http.hedges", "");
+        this.hedgeWinCounter = metrics.counter("http.hedges.won", "");
+        this.wastedTimer = metrics.timer("http.wasted");
+    }
+
+    ResiliencePolicy policy() {
+        return policy;
+    }
+
+    void setPolicy(ResiliencePolicy policy) {
+        this.policy = policy != null ? policy : ResiliencePolicy.none();
+    }
+
+    <T> Outcome<T> send(HttpMethod method, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return send(method, request, handler, policy);
+    }
+
+    <T> Outcome<T> send(HttpMethod method, HttpRequest request, HttpResponse.BodyHandler<T> handler, ResiliencePolicy current)
+            throws IOException, InterruptedException {
+        boolean retries = current.allowsRetry(method);
+        long hedgeDelayNanos = current.allowsHedging(method) ? hedgeDelayNanos(current) : -1;
+        int hedgesSent = 0;
+        int hedgesWon = 0;
+        long wastedNanos = 0;
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = !retries || attempt >= current.maxAttempts();
+            HttpResponse.BodyHandler<T> attemptHandler = lastAttempt ? handler : discardingRetryable(handler, current);
+            long attemptStart = System.nanoTime();
+            long delayMillis;
+            try {
+                Attempt<T> result = hedgeDelayNanos > 0
+                        ? sendHedged(request, attemptHandler, hedgeDelayNanos)
+                        : sendOnce(request, attemptHandler);
+                hedgesSent += result.hedged() ? 1 : 0;
+                hedgesWon += result.hedgeWon() ? 1 : 0;
+                wastedNanos += result.wastedNanos();
+                HttpResponse<T> response = result.response();
+                if (lastAttempt || !current.isRetryableStatus(response.statusCode())) {
+                    return finish(response, new AttemptSummary(attempt, hedgesSent, hedgesWon, wastedNanos));
+                }
+                delayMillis = retryAfterMillis(response.headers(), current);
+                if (delayMillis < 0) {
+                    delayMillis = current.backoffMillis(attempt);
+                }
+            } catch (ConnectException | HttpConnectTimeoutException ex) {
+                if (lastAttempt) {
+                    recordWasted(wastedNanos);
+                    throw ex;
+                }
+                delayMillis = current.backoffMillis(attempt);
+            }
+            wastedNanos += System.nanoTime() - attemptStart;
+            retryCounter.increment();
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            rateLimiter.acquire(request.uri());
+        }
+    }
+
+    private <T> Outcome<T> finish(HttpResponse<T> response, AttemptSummary attempts) {
+        recordWasted(attempts.wastedNanos());
+        return new Outcome<>(response, attempts);
+    }
+
+    private void recordWasted(long wastedNanos) {
+        if (wastedNanos > 0) {
+            wastedTimer.record(wastedNanos);
+        }
+    }
+
+    // The race a hedge runs ends when headers arrive, so the delay is p95 of time to headers; total latency also
+    // covers downloading and formatting the body and would push the delay past any useful point.
+    private long hedgeDelayNanos(ResiliencePolicy current) {
+        if (headersHistogram.count() < HEDGE_MIN_SAMPLES) {
+            return -1;
+        }
+        long p95 = (long) headersHistogram.percentile(95);
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(current.minHedgeDelayMillis()), p95);
+    }
+
+    // A retryable status never reaches the real subscriber, so a failed attempt never starts a download.
+    private <T> HttpResponse.BodyHandler<T> discardingRetryable(HttpResponse.BodyHandler<T> handler, ResiliencePolicy current) {
+        return info -> current.isRetryableStatus(info.statusCode())
+                ? HttpResponse.BodySubscribers.replacing(null)
+                : handler.apply(info);
+    }
+
+    private <T> Attempt<T> sendOnce(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return new Attempt<>(httpClient.send(request, handler), false, false, 0);
+    }
+
+    private <T> Attempt<T> sendHedged(HttpRequest request, HttpResponse.BodyHandler<T> handler, long hedgeDelayNanos)
+            throws IOException, InterruptedException {
+        // Only the first exchange to see headers gets the real subscriber; the other one is drained and cancelled.
+        AtomicBoolean claimed = new AtomicBoolean();
+        HttpResponse.BodyHandler<Claimed<T>> exclusive = info -> claimed.compareAndSet(false, true)
+                ? HttpResponse.BodySubscribers.mapping(handler.apply(info), body -> new Claimed<>(body, true))
+                : HttpResponse.BodySubscribers.replacing(new Claimed<>(null, false));
+
+        long primaryStart = System.nanoTime();
+        CompletableFuture<HttpResponse<Claimed<T>>> primary = httpClient.sendAsync(request, exclusive);
+        try {
+            return new Attempt<>(unwrap(primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS)), false, false, 0);
+        } catch (TimeoutException ignored) {
+            // Primary is slower than p95, fire the hedge.
+        } catch (ExecutionException ex) {
+            throw asIOException(ex.getCause());
+        } catch (InterruptedException ex) {
+            primary.cancel(true);
+            throw ex;
+        }
+
+        if (!admitHedge(request)) {
+            return awaitPrimary(primary);
+        }
+        try {
+            return raceHedge(request, exclusive, primary, primaryStart);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    // Hedges never wait for capacity: without a free slot and a host token the primary just runs alone.
+    private boolean admitHedge(HttpRequest request) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            return false;
+        }
+        if (rateLimiter.isUnlimited() || rateLimiter.bucket(request.uri()).tryAcquire()) {
+            return true;
+        }
+        concurrencyLimiter.release();
+        return false;
+    }
+
+    private <T> Attempt<T> awaitPrimary(CompletableFuture<HttpResponse<Claimed<T>>> primary)
+            throws IOException, InterruptedException {
+        try {
+            return new Attempt<>(unwrap(primary.get()), false, false, 0);
+        } catch (ExecutionException ex) {
+            throw asIOException(ex.getCause());
+        } catch (InterruptedException ex) {
+            primary.cancel(true);
+            throw ex;
+        }
+    }
+
+    private <T> Attempt<T> raceHedge(HttpRequest request, HttpResponse.BodyHandler<Claimed<T>> exclusive,
+                                     CompletableFuture<HttpResponse<Claimed<T>>> primary, long primaryStart)
+            throws IOException, InterruptedException {
+        hedgeCounter.increment();
+        long hedgeStart = System.nanoTime();
+        CompletableFuture<HttpResponse<Claimed<T>>> hedge = httpClient.sendAsync(request, exclusive);
+        CompletableFuture<HttpResponse<Claimed<T>>> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        for (CompletableFuture<HttpResponse<Claimed<T>>> candidate : List.of(primary, hedge)) {
+            candidate.whenComplete((response, error) -> {
+                if (error == null && response.body().winner()) {
+                    winner.complete(response);
+                    return;
+                }
+                if (error != null) {
+                    firstError.compareAndSet(null, error);
+                }
+                if (pending.decrementAndGet() == 0) {
+                    Throwable cause = firstError.get();
+                    winner.completeExceptionally(cause != null ? cause : new IOException("Sin respuesta válida"));
+                }
+            });
+        }
+
+        HttpResponse<Claimed<T>> response;
+        try {
+            response = winner.get();
+        } catch (ExecutionException ex) {
+            throw asIOException(ex.getCause());
+        } catch (InterruptedException ex) {
+            primary.cancel(true);
+            hedge.cancel(true);
+            throw ex;
+        }
+        long now = System.nanoTime();
+        boolean hedgeWon = hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.getNow(null) == response;
+        CompletableFuture<HttpResponse<Claimed<T>>> loser = hedgeWon ? primary : hedge;
+        loser.cancel(true);
+        if (hedgeWon) {
+            hedgeWinCounter.increment();
+        }
+        long wasted = hedgeWon ? now - primaryStart : now - hedgeStart;
+        return new Attempt<>(unwrap(response), true, hedgeWon, wasted);
+    }
+
+    private static <T> HttpResponse<T> unwrap(HttpResponse<Claimed<T>> response) {
+        return new UnwrappedResponse<>(response, response.body().body());
+    }
+
+    private static IOException asIOException(Throwable cause) {
+        if (cause instanceof CancellationException) {
+            return new IOException("Solicitud cancelada", cause);
+        }
+        if (cause instanceof IOException io) {
+            // Preserve the concrete type so connect failures stay retryable.
+            return io;
+        }
+        return new IOException(cause != null ? cause.getMessage() : "Error desconocido", cause);
+    }
+
+    static long retryAfterMillis(HttpHeaders headers, ResiliencePolicy policy) {
+        if (!policy.honorRetryAfter()) {
+            return -1;
+        }
+        String value = headers.firstValue("Retry-After").map(String::trim).orElse("");
+        if (value.isEmpty()) {
+            return -1;
+        }
+        long millis;
+        try {
+            millis = TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                millis = Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis();
+            } catch (DateTimeParseException notDate) {
+                return -1;
+            }
+        }
+        return Math.min(Math.max(0, millis), policy.maxRetryAfterMillis());
+    }
+
+    record Outcome<T>(HttpResponse<T> response, AttemptSummary attempts) {
+    }
+
+    private record Attempt<T>(HttpResponse<T> response, boolean hedged, boolean hedgeWon, long wastedNanos) {
+    }
+
+    private record Claimed<T>(T body, boolean winner) {
+    }
+
+    private record UnwrappedResponse<T>(HttpResponse<?> delegate, T body) implements HttpResponse<T> {
+
+        @Override
+        public int statusCode() {
+            return delegate.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return delegate.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return delegate.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return delegate.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return delegate.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return delegate.version();
+        }
+    }
+}
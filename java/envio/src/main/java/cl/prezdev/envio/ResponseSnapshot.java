@@ -0,0 +1,54 @@
+package cl.prezdev.envio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// What a hibernated tab needs to redraw its response. Pretty-printed JSON compresses very well, so the temp file
+// is usually a small fraction of the heap the same text takes once it is in a styled document.
+public record ResponseSnapshot(String formattedBody, String rawRequest, String rawResponse) {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "envio-tab-", ".gz");
+        file.toFile().deleteOnExit();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+            writeText(output, formattedBody);
+            writeText(output, rawRequest);
+            writeText(output, rawResponse);
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        return file;
+    }
+
+    public static ResponseSnapshot read(Path file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+            return new ResponseSnapshot(readText(input), readText(input), readText(input));
+        }
+    }
+
+    private static void writeText(DataOutputStream output, String text) throws IOException {
+        byte[] bytes = (text != null ? text : "").getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readText(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
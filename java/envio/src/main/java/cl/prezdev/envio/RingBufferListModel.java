@@ -0,0 +1,55 @@
+package cl.prezdev.envio;
+
+import javax.swing.AbstractListModel;
+
+public class RingBufferListModel<T> extends AbstractListModel<T> {
+
+    private RecordRingBuffer<T> buffer;
+    private int size;
+    private long lastSeenTotal;
+
+    public void setBuffer(RecordRingBuffer<T> buffer) {
+        int previous = size;
+        this.buffer = buffer;
+        size = 0;
+        lastSeenTotal = 0;
+        if (previous > 0) {
+            fireIntervalRemoved(this, 0, previous - 1);
+        }
+        refresh();
+    }
+
+    public boolean refresh() {
+        if (buffer == null) {
+            return false;
+        }
+        long total = buffer.totalAdded();
+        if (total == lastSeenTotal) {
+            return false;
+        }
+        int previous = size;
+        int newSize = buffer.size();
+        boolean shifted = total - lastSeenTotal > newSize - previous;
+        size = newSize;
+        lastSeenTotal = total;
+        if (shifted && previous > 0) {
+            fireContentsChanged(this, 0, Math.min(previous, newSize) - 1);
+        }
+        if (newSize > previous) {
+            fireIntervalAdded(this, previous, newSize - 1);
+        } else if (newSize < previous) {
+            fireIntervalRemoved(this, newSize, previous - 1);
+        }
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public T getElementAt(int index) {
+        return buffer != null ? buffer.get(index) : null;
+    }
+}
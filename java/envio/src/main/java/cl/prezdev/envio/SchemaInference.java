@@ -0,0 +1,267 @@
+package cl.prezdev.envio;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.LongConsumer;
+
+// One pass over the parser tokens. Memory depends on the number of distinct paths (capped), never on the
+// number of values: array elements share a single "[]" path and strings are only counted through HyperLogLog.
+public final class SchemaInference {
+
+    public static final int MAX_PATHS = 2_000;
+    private static final int HLL_PRECISION = 11;
+    private static final int PROGRESS_EVERY_VALUES = 1 << 16;
+
+    public enum ValueType {
+        OBJECT("object"),
+        ARRAY("array"),
+        STRING("string"),
+        INTEGER("integer"),
+        NUMBER("number"),
+        BOOLEAN("boolean"),
+        NULL("null");
+
+        private final String label;
+
+        ValueType(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    public record Field(
+            String path,
+            int depth,
+            String types,
+            long occurrences,
+            double presence,
+            double nullRate,
+            Double min,
+            Double max,
+            Double mean,
+            Long distinct,
+            String lengths,
+            String items
+    ) {
+        public boolean optional() {
+            return presence < 1.0;
+        }
+    }
+
+    public record Report(List<Field> fields, long values, long bytes, long elapsedNanos, boolean truncated) {
+
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+
+    private final LongConsumer progress;
+    private int paths;
+    private long values;
+    private boolean truncated;
+
+    private SchemaInference(LongConsumer progress) {
+        this.progress = progress;
+    }
+
+    public static Report analyze(JsonFactory factory, JsonQuery.Source source, LongConsumer progress) throws IOException {
+        SchemaInference inference = new SchemaInference(progress);
+        long start = System.nanoTime();
+        try (JsonParser parser = source.open(factory)) {
+            Node root = new Node("$", 0, null);
+            inference.paths = 1;
+            if (parser.nextToken() != null) {
+                inference.visit(parser, root);
+            }
+            long bytes = parser.currentLocation().getByteOffset();
+            List<Field> fields = new ArrayList<>();
+            root.collect(fields);
+            return new Report(fields, inference.values, Math.max(bytes, 0), System.nanoTime() - start, inference.truncated);
+        }
+    }
+
+    private void visit(JsonParser parser, Node node) throws IOException {
+        if (++values % PROGRESS_EVERY_VALUES == 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Análisis cancelado");
+            }
+            if (progress != null) {
+                progress.accept(parser.currentLocation().getByteOffset());
+            }
+        }
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case START_OBJECT -> {
+                node.count(ValueType.OBJECT);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    Node child = node.child(name, this);
+                    if (child == null) {
+                        parser.skipChildren();
+                    } else {
+                        visit(parser, child);
+                    }
+                }
+            }
+            case START_ARRAY -> {
+                node.count(ValueType.ARRAY);
+                Node element = node.child(null, this);
+                long length = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    length++;
+                    if (element == null) {
+                        parser.skipChildren();
+                    } else {
+                        visit(parser, element);
+                    }
+                }
+                node.arrayLength(length);
+            }
+            case VALUE_STRING -> node.string(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            case VALUE_NUMBER_INT -> node.number(ValueType.INTEGER, parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                    ? parser.getBigIntegerValue().doubleValue() : parser.getLongValue());
+            case VALUE_NUMBER_FLOAT -> node.number(ValueType.NUMBER, parser.getDoubleValue());
+            case VALUE_TRUE, VALUE_FALSE -> node.count(ValueType.BOOLEAN);
+            case VALUE_NULL -> node.count(ValueType.NULL);
+            default -> parser.skipChildren();
+        }
+    }
+
+    private boolean reservePath() {
+        if (paths >= MAX_PATHS) {
+            truncated = true;
+            return false;
+        }
+        paths++;
+        return true;
+    }
+
+    private static final class Node {
+        private final String path;
+        private final int depth;
+        private final Node parent;
+        private final long[] typeCounts = new long[ValueType.values().length];
+        private Map<String, Node> fields;
+        private Node element;
+        private long occurrences;
+        private long numbers;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double sum;
+        private HyperLogLog distinct;
+        private long minLength = Long.MAX_VALUE;
+        private long maxLength;
+        private long arrays;
+        private long minItems = Long.MAX_VALUE;
+        private long maxItems;
+        private long totalItems;
+
+        private Node(String path, int depth, Node parent) {
+            this.path = path;
+            this.depth = depth;
+            this.parent = parent;
+        }
+
+        void count(ValueType type) {
+            occurrences++;
+            typeCounts[type.ordinal()]++;
+        }
+
+        void number(ValueType type, double value) {
+            count(type);
+            numbers++;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+
+        void string(char[] text, int offset, int length) {
+            count(ValueType.STRING);
+            if (distinct == null) {
+                distinct = new HyperLogLog(HLL_PRECISION);
+            }
+            distinct.add(text, offset, length);
+            minLength = Math.min(minLength, length);
+            maxLength = Math.max(maxLength, length);
+        }
+
+        void arrayLength(long length) {
+            arrays++;
+            minItems = Math.min(minItems, length);
+            maxItems = Math.max(maxItems, length);
+            totalItems += length;
+        }
+
+        Node child(String name, SchemaInference inference) {
+            if (name == null) {
+                if (element == null && inference.reservePath()) {
+                    element = new Node(path + "[]", depth + 1, this);
+                }
+                return element;
+            }
+            if (fields == null) {
+                fields = new LinkedHashMap<>();
+            }
+            Node child = fields.get(name);
+            if (child == null && inference.reservePath()) {
+                child = new Node(path + "." + name, depth + 1, this);
+                fields.put(name, child);
+            }
+            return child;
+        }
+
+        void collect(List<Field> output) {
+            output.add(toField());
+            if (element != null) {
+                element.collect(output);
+            }
+            if (fields != null) {
+                for (Node child : fields.values()) {
+                    child.collect(output);
+                }
+            }
+        }
+
+        private Field toField() {
+            StringJoiner types = new StringJoiner(" | ");
+            for (ValueType type : ValueType.values()) {
+                if (typeCounts[type.ordinal()] > 0) {
+                    types.add(type.label());
+                }
+            }
+            double presence = 1.0;
+            if (parent != null && parent.element != this) {
+                long parentObjects = parent.typeCounts[ValueType.OBJECT.ordinal()];
+                presence = parentObjects > 0 ? (double) occurrences / parentObjects : 0;
+            }
+            long nulls = typeCounts[ValueType.NULL.ordinal()];
+            return new Field(
+                    path,
+                    depth,
+                    types.toString(),
+                    occurrences,
+                    presence,
+                    occurrences > 0 ? (double) nulls / occurrences : 0,
+                    numbers > 0 ? min : null,
+                    numbers > 0 ? max : null,
+                    numbers > 0 ? sum / numbers : null,
+                    distinct != null ? distinct.estimate() : null,
+                    distinct != null ? minLength + "–" + maxLength : null,
+                    arrays > 0 ? String.format("%d–%d (%.1f)", minItems, maxItems, (double) totalItems / arrays) : null
+            );
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.SchemaTexts;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class SchemaPanel extends JPanel {
+
+    private final JsonFactory jsonFactory;
+    private final MetricsRegistry.Timer analyzeTimer;
+    private final FieldTableModel tableModel = new FieldTableModel();
+    private final JTable table;
+    private final JLabel summaryLabel = new JLabel(" ");
+    private final JButton cancelButton = new JButton();
+    private SchemaTexts texts;
+    private SwingWorker<SchemaInference.Report, Long> worker;
+    private SchemaInference.Report report;
+    private int loadedVersion = -1;
+
+    public SchemaPanel(JsonFactory jsonFactory, MetricsRegistry metrics, Language language) {
+        this.jsonFactory = jsonFactory;
+        this.analyzeTimer = metrics.timer("ui.schema.analyze");
+        this.texts = I18n.schema(language);
+        this.table = new JTable(tableModel);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        table.setFillsViewportHeight(true);
+        table.setAutoCreateRowSorter(true);
+        table.getTableHeader().setReorderingAllowed(false);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        cancelButton.setEnabled(false);
+        cancelButton.addActionListener(e -> cancel());
+        JPanel north = new JPanel(new BorderLayout(8, 0));
+        north.add(summaryLabel, BorderLayout.CENTER);
+        north.add(cancelButton, BorderLayout.EAST);
+        add(north, BorderLayout.NORTH);
+
+        setLanguage(language);
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.schema(language);
+        cancelButton.setText(texts.cancelButton());
+        tableModel.fireTableStructureChanged();
+        updateSummary();
+    }
+
+    public void load(int version, JsonQuery.Source source) {
+        if (version == loadedVersion) {
+            return;
+        }
+        cancel();
+        loadedVersion = version;
+        report = null;
+        tableModel.fireTableDataChanged();
+        if (source == null) {
+            summaryLabel.setText(texts.noData());
+            return;
+        }
+        summaryLabel.setText(texts.analyzing());
+        cancelButton.setEnabled(true);
+        worker = new SwingWorker<>() {
+            @Override
+            protected SchemaInference.Report doInBackground() throws Exception {
+                MetricsRegistry.Sample sample = analyzeTimer.start();
+                try {
+                    return SchemaInference.analyze(jsonFactory, source, this::publish);
+                } finally {
+                    sample.stop();
+                }
+            }
+
+            @Override
+            protected void process(List<Long> offsets) {
+                if (!isCancelled()) {
+                    summaryLabel.setText(String.format(texts.progressPattern(), ByteSizes.format(offsets.get(offsets.size() - 1))));
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                cancelButton.setEnabled(false);
+                try {
+                    report = get();
+                    tableModel.fireTableDataChanged();
+                    updateSummary();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    summaryLabel.setText(String.format(texts.failedPattern(),
+                            cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName()));
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void cancel() {
+        if (worker != null && !worker.isDone()) {
+            worker.cancel(true);
+            summaryLabel.setText(texts.cancelled());
+            // Analyzing again is allowed once the view is shown for this response again.
+            loadedVersion = -1;
+        }
+        worker = null;
+        cancelButton.setEnabled(false);
+    }
+
+    private void updateSummary() {
+        if (report == null) {
+            return;
+        }
+        String text = String.format(texts.summaryPattern(), report.fields().size(), report.values(),
+                ByteSizes.format(report.bytes()), report.elapsedMillis());
+        if (report.truncated()) {
+            text += String.format(texts.truncatedPattern(), SchemaInference.MAX_PATHS);
+        }
+        summaryLabel.setText(text);
+    }
+
+    private class FieldTableModel extends AbstractTableModel {
+
+        @Override
+        public int getRowCount() {
+            return report != null ? report.fields().size() : 0;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return texts.columns().size();
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return texts.columns().get(column);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 2 -> Long.class;
+                case 3, 4, 5, 6, 7 -> Double.class;
+                case 8 -> Long.class;
+                default -> String.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            SchemaInference.Field field = report.fields().get(row);
+            return switch (column) {
+                case 0 -> "  ".repeat(field.depth()) + field.path();
+                case 1 -> field.types();
+                case 2 -> field.occurrences();
+                case 3 -> percent(field.presence());
+                case 4 -> percent(field.nullRate());
+                case 5 -> field.min();
+                case 6 -> field.max();
+                case 7 -> field.mean();
+                case 8 -> field.distinct();
+                case 9 -> field.lengths();
+                default -> field.items();
+            };
+        }
+
+        private Double percent(double rate) {
+            return Math.round(rate * 10_000) / 100.0;
+        }
+    }
+}
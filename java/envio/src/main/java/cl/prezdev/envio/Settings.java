@@ -19,6 +19,33 @@ public class Settings {
     @Setter
     private int windowHeight = -1;
     private String language = Language.ES.code();
+    // 1 = no retries: the response shown is the one the server sent, retries are opt-in from SettingsDialog.
+    @Setter
+    private int retryMaxAttempts = 1;
+    @Setter
+    private long retryBaseDelayMillis = 200;
+    @Setter
+    private long retryMaxDelayMillis = 5_000;
+    @Setter
+    private boolean retryHonorRetryAfter = true;
+    @Setter
+    private boolean retryNonIdempotent;
+    @Setter
+    private boolean hedgingEnabled;
+    @Setter
+    private int maxConcurrentRequests = 16;
+    @Setter
+    private double hostRequestsPerSecond;
+    @Setter
+    private int hostBurst = 5;
+    // Preconnecting sends a real OPTIONS / to the typed origin, so it stays off until asked for.
+    @Setter
+    private boolean preconnectEnabled;
+    @Setter
+    private int tabHibernateMinutes = 5;
+    // 0 = half of the maximum heap.
+    @Setter
+    private int memoryBudgetMegabytes;
     private final Map<String, Float> componentScales = new LinkedHashMap<>();
 
     public Settings() {
@@ -37,6 +64,18 @@ public class Settings {
         copy.windowWidth = windowWidth;
         copy.windowHeight = windowHeight;
         copy.language = language;
+        copy.retryMaxAttempts = retryMaxAttempts;
+        copy.retryBaseDelayMillis = retryBaseDelayMillis;
+        copy.retryMaxDelayMillis = retryMaxDelayMillis;
+        copy.retryHonorRetryAfter = retryHonorRetryAfter;
+        copy.retryNonIdempotent = retryNonIdempotent;
+        copy.hedgingEnabled = hedgingEnabled;
+        copy.maxConcurrentRequests = maxConcurrentRequests;
+        copy.hostRequestsPerSecond = hostRequestsPerSecond;
+        copy.hostBurst = hostBurst;
+        copy.preconnectEnabled = preconnectEnabled;
+        copy.tabHibernateMinutes = tabHibernateMinutes;
+        copy.memoryBudgetMegabytes = memoryBudgetMegabytes;
         copy.componentScales.putAll(componentScales);
         return copy;
     }
@@ -46,6 +85,18 @@ public class Settings {
         this.windowWidth = other.windowWidth;
         this.windowHeight = other.windowHeight;
         this.language = other.language;
+        this.retryMaxAttempts = other.retryMaxAttempts;
+        this.retryBaseDelayMillis = other.retryBaseDelayMillis;
+        this.retryMaxDelayMillis = other.retryMaxDelayMillis;
+        this.retryHonorRetryAfter = other.retryHonorRetryAfter;
+        this.retryNonIdempotent = other.retryNonIdempotent;
+        this.hedgingEnabled = other.hedgingEnabled;
+        this.maxConcurrentRequests = other.maxConcurrentRequests;
+        this.hostRequestsPerSecond = other.hostRequestsPerSecond;
+        this.hostBurst = other.hostBurst;
+        this.preconnectEnabled = other.preconnectEnabled;
+        this.tabHibernateMinutes = other.tabHibernateMinutes;
+        this.memoryBudgetMegabytes = other.memoryBudgetMegabytes;
         this.componentScales.clear();
         this.componentScales.putAll(other.componentScales);
     }
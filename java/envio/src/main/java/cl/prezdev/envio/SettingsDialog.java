@@ -47,6 +47,8 @@ public class SettingsDialog extends JDialog {
         JTabbedPane tabs = new JTabbedPane();
         tabs.addTab("Gráfico", createVisualPanel());
         tabs.addTab("JSON", createJsonPanel());
+        tabs.addTab("Red", createNetworkPanel());
+        tabs.addTab("Memoria", createMemoryPanel());
         tabs.addChangeListener(e -> {
             if (tabs.getSelectedIndex() == 1) {
                 refreshJsonEditor();
@@ -140,6 +142,108 @@ public class SettingsDialog extends JDialog {
         return panel;
     }
 
+    private JPanel createNetworkPanel() {
+        JPanel panel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+        int row = 0;
+
+        JSpinner attemptsSpinner = new JSpinner(new SpinnerNumberModel(Math.max(1, Math.min(workingCopy.getRetryMaxAttempts(), 10)), 1, 10, 1));
+        attemptsSpinner.setToolTipText("1 = sin reintentos");
+        attemptsSpinner.addChangeListener(spinnerListener(value -> workingCopy.setRetryMaxAttempts(value.intValue())));
+        addRow(panel, gbc, row++, "Intentos máximos", attemptsSpinner);
+
+        JSpinner baseDelaySpinner = new JSpinner(new SpinnerNumberModel((int) Math.max(0, Math.min(workingCopy.getRetryBaseDelayMillis(), 60_000)), 0, 60_000, 50));
+        baseDelaySpinner.addChangeListener(spinnerListener(value -> workingCopy.setRetryBaseDelayMillis(value.longValue())));
+        addRow(panel, gbc, row++, "Espera base (ms)", baseDelaySpinner);
+
+        JSpinner maxDelaySpinner = new JSpinner(new SpinnerNumberModel((int) Math.max(0, Math.min(workingCopy.getRetryMaxDelayMillis(), 300_000)), 0, 300_000, 500));
+        maxDelaySpinner.addChangeListener(spinnerListener(value -> workingCopy.setRetryMaxDelayMillis(value.longValue())));
+        addRow(panel, gbc, row++, "Espera máxima (ms)", maxDelaySpinner);
+
+        JCheckBox retryAfterCheck = new JCheckBox("Respetar Retry-After", workingCopy.isRetryHonorRetryAfter());
+        retryAfterCheck.addActionListener(e -> {
+            workingCopy.setRetryHonorRetryAfter(retryAfterCheck.isSelected());
+            refreshJsonEditor();
+        });
+        addRow(panel, gbc, row++, null, retryAfterCheck);
+
+        JCheckBox nonIdempotentCheck = new JCheckBox("Reintentar también POST y PATCH", workingCopy.isRetryNonIdempotent());
+        nonIdempotentCheck.addActionListener(e -> {
+            workingCopy.setRetryNonIdempotent(nonIdempotentCheck.isSelected());
+            refreshJsonEditor();
+        });
+        addRow(panel, gbc, row++, null, nonIdempotentCheck);
+
+        JCheckBox hedgingCheck = new JCheckBox("Solicitudes de cobertura tras el p95 de espera de cabeceras", workingCopy.isHedgingEnabled());
+        hedgingCheck.addActionListener(e -> {
+            workingCopy.setHedgingEnabled(hedgingCheck.isSelected());
+            refreshJsonEditor();
+        });
+        addRow(panel, gbc, row++, null, hedgingCheck);
+
+        JSpinner concurrencySpinner = new JSpinner(new SpinnerNumberModel(Math.max(0, Math.min(workingCopy.getMaxConcurrentRequests(), 1024)), 0, 1024, 1));
+        concurrencySpinner.setToolTipText("0 = sin límite");
+        concurrencySpinner.addChangeListener(spinnerListener(value -> workingCopy.setMaxConcurrentRequests(value.intValue())));
+        addRow(panel, gbc, row++, "Solicitudes simultáneas", concurrencySpinner);
+
+        JSpinner rateSpinner = new JSpinner(new SpinnerNumberModel(Math.max(0.0, Math.min(workingCopy.getHostRequestsPerSecond(), 10_000.0)), 0.0, 10_000.0, 1.0));
+        rateSpinner.setToolTipText("0 = sin límite");
+        rateSpinner.addChangeListener(spinnerListener(value -> workingCopy.setHostRequestsPerSecond(value.doubleValue())));
+        addRow(panel, gbc, row++, "Solicitudes por segundo por host", rateSpinner);
+
+        JSpinner burstSpinner = new JSpinner(new SpinnerNumberModel(Math.max(1, Math.min(workingCopy.getHostBurst(), 1000)), 1, 1000, 1));
+        burstSpinner.addChangeListener(spinnerListener(value -> workingCopy.setHostBurst(value.intValue())));
+        addRow(panel, gbc, row++, "Ráfaga por host", burstSpinner);
+
+        JCheckBox preconnectCheck = new JCheckBox("Preconectar al origen HTTPS al escribir la URL", workingCopy.isPreconnectEnabled());
+        preconnectCheck.setToolTipText("Envía OPTIONS / al origen 400 ms después de dejar de escribir");
+        preconnectCheck.addActionListener(e -> {
+            workingCopy.setPreconnectEnabled(preconnectCheck.isSelected());
+            refreshJsonEditor();
+        });
+        addRow(panel, gbc, row, null, preconnectCheck);
+
+        return panel;
+    }
+
+    private JPanel createMemoryPanel() {
+        JPanel panel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+        int row = 0;
+
+        JSpinner hibernateSpinner = new JSpinner(new SpinnerNumberModel(Math.max(0, Math.min(workingCopy.getTabHibernateMinutes(), 1440)), 0, 1440, 1));
+        hibernateSpinner.setToolTipText("0 = nunca");
+        hibernateSpinner.addChangeListener(spinnerListener(value -> workingCopy.setTabHibernateMinutes(value.intValue())));
+        addRow(panel, gbc, row, "Hibernar pestañas inactivas tras (min)", hibernateSpinner);
+
+        row++;
+        JSpinner budgetSpinner = new JSpinner(new SpinnerNumberModel(Math.max(0, Math.min(workingCopy.getMemoryBudgetMegabytes(), 65_536)), 0, 65_536, 16));
+        budgetSpinner.setToolTipText("0 = automático (" + ByteSizes.format(MemoryBudget.defaultLimit()) + ", la mitad del heap máximo)");
+        budgetSpinner.addChangeListener(spinnerListener(value -> workingCopy.setMemoryBudgetMegabytes(value.intValue())));
+        addRow(panel, gbc, row, "Límite de memoria para respuestas (MB)", budgetSpinner);
+
+        return panel;
+    }
+
+    private void addRow(JPanel panel, GridBagConstraints gbc, int row, String label, JComponent component) {
+        gbc.gridy = row;
+        if (label == null) {
+            gbc.gridx = 0;
+            gbc.gridwidth = 2;
+            panel.add(component, gbc);
+            gbc.gridwidth = 1;
+            return;
+        }
+        gbc.gridx = 0;
+        panel.add(new JLabel(label), gbc);
+        gbc.gridx = 1;
+        panel.add(component, gbc);
+    }
+
     private JPanel createJsonPanel() {
         JPanel panel = new JPanel(new BorderLayout());
         panel.add(new JScrollPane(jsonEditor), BorderLayout.CENTER);
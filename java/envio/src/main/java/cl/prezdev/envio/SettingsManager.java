@@ -12,23 +12,31 @@ import java.nio.file.Paths;
 public class SettingsManager {
     private static final String DIRECTORY_NAME = ".envio";
     private static final String FILE_NAME = "settings.json";
+    // Zoom ticks, resizes and language changes arrive in bursts; one write per window is enough.
+    private static final long WRITE_DELAY_MILLIS = 500;
 
-    private final ObjectMapper mapper;
     private final Path settingsPath;
+    private final DeferredFileWriter writer;
+    private ObjectMapper mapper;
 
     public SettingsManager() {
         this(Paths.get(System.getProperty("user.home"), DIRECTORY_NAME, FILE_NAME));
     }
 
     public SettingsManager(Path settingsPath) {
-        this.mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        this(settingsPath, MetricsRegistry.global());
+    }
+
+    public SettingsManager(Path settingsPath, MetricsRegistry metrics) {
         this.settingsPath = settingsPath;
+        this.writer = new DeferredFileWriter(settingsPath, "envio-settings-writer", WRITE_DELAY_MILLIS,
+                "No se pudieron guardar los ajustes", metrics.timer("settings.write"), metrics.counter("settings.coalesced", ""));
     }
 
     public Settings load() {
         if (Files.exists(settingsPath)) {
             try {
-                return mapper.readValue(settingsPath.toFile(), Settings.class);
+                return mapper().readValue(settingsPath.toFile(), Settings.class);
             } catch (IOException ex) {
                 System.err.println("No se pudieron cargar los ajustes: " + ex.getMessage());
             }
@@ -36,16 +44,28 @@ public class SettingsManager {
         return Settings.defaults();
     }
 
+    // Serializing is cheap and happens here, so the writer never reads Settings while the UI thread mutates it.
+    // The disk write is deferred and coalesced with any other save in the next WRITE_DELAY_MILLIS.
     public void save(Settings settings) {
+        byte[] json;
         try {
-            Path directory = settingsPath.getParent();
-            if (directory != null && !Files.exists(directory)) {
-                Files.createDirectories(directory);
-            }
-            mapper.writeValue(settingsPath.toFile(), settings);
-        } catch (IOException ex) {
+            json = mapper().writeValueAsBytes(settings);
+        } catch (JsonProcessingException ex) {
             System.err.println("No se pudieron guardar los ajustes: " + ex.getMessage());
+            return;
+        }
+        writer.submit(json);
+    }
+
+    public void flush() {
+        writer.flush();
+    }
+
+    private synchronized ObjectMapper mapper() {
+        if (mapper == null) {
+            mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
         }
+        return mapper;
     }
 
     public Path getSettingsPath() {
@@ -54,13 +74,13 @@ public class SettingsManager {
 
     public String toJson(Settings settings) {
         try {
-            return mapper.writeValueAsString(settings);
+            return mapper().writeValueAsString(settings);
         } catch (JsonProcessingException e) {
             return "{}";
         }
     }
 
     public Settings fromJson(String json) throws IOException {
-        return mapper.readValue(json, Settings.class);
+        return mapper().readValue(json, Settings.class);
     }
 }
@@ -0,0 +1,91 @@
+package cl.prezdev.envio;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SpillingOutputStream extends OutputStream {
+
+    private final int memoryLimit;
+    private final Path directory;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream(8192);
+    private OutputStream fileStream;
+    private Path file;
+    private long size;
+
+    public SpillingOutputStream(int memoryLimit, Path directory) {
+        this.memoryLimit = memoryLimit;
+        this.directory = directory;
+    }
+
+    public static Path createSpillFile(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "envio-body-", ".tmp");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        ensureCapacity(1);
+        target().write(value);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        ensureCapacity(length);
+        target().write(buffer, offset, length);
+        size += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileStream != null) {
+            fileStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileStream != null) {
+            fileStream.close();
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public byte[] toByteArray() {
+        if (memory == null) {
+            throw new IllegalStateException("El cuerpo se desbordó a disco: " + file);
+        }
+        return memory.toByteArray();
+    }
+
+    private OutputStream target() {
+        return fileStream != null ? fileStream : memory;
+    }
+
+    private void ensureCapacity(int incoming) throws IOException {
+        if (fileStream != null || size + incoming <= memoryLimit) {
+            return;
+        }
+        file = createSpillFile(directory);
+        fileStream = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        memory.writeTo(fileStream);
+        memory = null;
+    }
+}
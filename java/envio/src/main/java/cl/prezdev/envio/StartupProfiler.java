@@ -0,0 +1,92 @@
+package cl.prezdev.envio;
+
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+public final class StartupProfiler {
+
+    private static final String REPORT_PROPERTY = "envio.startup.report";
+    private static final String CHECK_PROPERTY = "envio.startup.check";
+    private static final String BUDGET_PROPERTY = "envio.startup.budgetMs";
+    private static final long DEFAULT_BUDGET_MS = 1500;
+
+    private static final AtomicBoolean FIRST_PAINT_RECORDED = new AtomicBoolean();
+    private static final List<Phase> PHASES = new ArrayList<>();
+
+    private StartupProfiler() {
+    }
+
+    public static boolean isReportEnabled() {
+        return Boolean.getBoolean(REPORT_PROPERTY) || isCheckEnabled();
+    }
+
+    public static boolean isCheckEnabled() {
+        return Boolean.getBoolean(CHECK_PROPERTY);
+    }
+
+    public static long budgetMillis() {
+        return Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MS);
+    }
+
+    public static void run(String phase, Runnable action) {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T measure(String phase, Supplier<T> action) {
+        if (FIRST_PAINT_RECORDED.get()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(new Phase(phase, Thread.currentThread().getName(), System.nanoTime() - start));
+        }
+    }
+
+    public static void markFirstPaint() {
+        if (!FIRST_PAINT_RECORDED.compareAndSet(false, true)) {
+            return;
+        }
+        if (!isReportEnabled()) {
+            return;
+        }
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        long budget = budgetMillis();
+        boolean withinBudget = uptime <= budget;
+        System.err.println(buildReport(uptime, budget, withinBudget));
+        if (isCheckEnabled()) {
+            // Called from paint(): let the paint and the rest of the current event finish before exiting.
+            int status = withinBudget ? 0 : 1;
+            SwingUtilities.invokeLater(() -> System.exit(status));
+        }
+    }
+
+    private static synchronized void record(Phase phase) {
+        PHASES.add(phase);
+    }
+
+    private static synchronized String buildReport(long uptime, long budget, boolean withinBudget) {
+        StringBuilder builder = new StringBuilder("Arranque de envio (presupuesto " + budget + " ms):");
+        for (Phase phase : PHASES) {
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-24s %8.1f ms  [%s]", phase.name(), phase.nanos() / 1_000_000.0, phase.thread()));
+        }
+        builder.append(System.lineSeparator())
+                .append("Primer frame pintado a los ").append(uptime).append(" ms desde el arranque de la JVM");
+        if (!withinBudget) {
+            builder.append(" — presupuesto excedido en ").append(uptime - budget).append(" ms");
+        }
+        return builder.toString();
+    }
+
+    private record Phase(String name, String thread, long nanos) {
+    }
+}
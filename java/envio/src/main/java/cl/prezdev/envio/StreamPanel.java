@@ -0,0 +1,167 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.StreamTexts;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public class StreamPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 100;
+    private static final int RATE_WINDOW_MS = 1000;
+    private static final int PREVIEW_CHARS = 300;
+
+    private final JsonStreamFormatter formatter;
+    private final RingBufferListModel<StreamRecord> listModel = new RingBufferListModel<>();
+    private final JList<StreamRecord> recordList = new JList<>(listModel);
+    private final LargeTextViewer detailViewer;
+    private final JLabel statsLabel = new JLabel(" ");
+    private final JCheckBox followCheckBox = new JCheckBox();
+    private final JButton stopButton = new JButton();
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+    private final Timer refreshTimer;
+    private StreamingSession session;
+    private StreamTexts texts;
+    private long rateWindowStart = System.nanoTime();
+    private long rateWindowEvents;
+    private long rateWindowBytes;
+    private double eventsPerSecond;
+    private double bytesPerSecond;
+
+    public StreamPanel(JsonStreamFormatter formatter, LargeTextViewer detailViewer, Language language) {
+        this.formatter = formatter;
+        this.detailViewer = detailViewer;
+        this.texts = I18n.stream(language);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        recordList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        recordList.setPrototypeCellValue(new StreamRecord(0, 0, "event", "x".repeat(80), 80));
+        recordList.setCellRenderer(new StreamRecordRenderer());
+        recordList.addListSelectionListener(event -> {
+            if (!event.getValueIsAdjusting()) {
+                showSelectedRecord();
+            }
+        });
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(recordList), new JScrollPane(detailViewer));
+        split.setResizeWeight(0.6);
+        split.setContinuousLayout(true);
+        add(split, BorderLayout.CENTER);
+
+        followCheckBox.setSelected(true);
+        stopButton.setEnabled(false);
+        stopButton.addActionListener(e -> stop());
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        controls.add(followCheckBox);
+        controls.add(stopButton);
+
+        JPanel north = new JPanel(new BorderLayout(8, 0));
+        north.add(statsLabel, BorderLayout.WEST);
+        north.add(controls, BorderLayout.EAST);
+        add(north, BorderLayout.NORTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+        refreshTimer.start();
+        setLanguage(language);
+    }
+
+    public void attach(StreamingSession newSession) {
+        stop();
+        session = newSession;
+        rateWindowStart = System.nanoTime();
+        rateWindowEvents = 0;
+        rateWindowBytes = 0;
+        eventsPerSecond = 0;
+        bytesPerSecond = 0;
+        listModel.setBuffer(newSession.records());
+        detailViewer.setText("");
+        stopButton.setEnabled(true);
+        updateStats();
+    }
+
+    public void stop() {
+        if (session != null) {
+            session.cancel();
+        }
+        stopButton.setEnabled(false);
+    }
+
+    public void dispose() {
+        stop();
+        refreshTimer.stop();
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.stream(language);
+        followCheckBox.setText(texts.followCheckbox());
+        stopButton.setText(texts.stopButton());
+        updateStats();
+    }
+
+    private void refresh() {
+        StreamingSession current = session;
+        if (current == null) {
+            return;
+        }
+        if (listModel.refresh() && followCheckBox.isSelected() && listModel.getSize() > 0) {
+            recordList.ensureIndexIsVisible(listModel.getSize() - 1);
+        }
+        long now = System.nanoTime();
+        long elapsedMillis = (now - rateWindowStart) / 1_000_000;
+        if (elapsedMillis >= RATE_WINDOW_MS) {
+            long events = current.eventCount();
+            long bytes = current.byteCount();
+            eventsPerSecond = (events - rateWindowEvents) * 1000.0 / elapsedMillis;
+            bytesPerSecond = (bytes - rateWindowBytes) * 1000.0 / elapsedMillis;
+            rateWindowEvents = events;
+            rateWindowBytes = bytes;
+            rateWindowStart = now;
+            updateStats();
+        }
+        if (!current.isRunning()) {
+            stopButton.setEnabled(false);
+        }
+    }
+
+    private void updateStats() {
+        StreamingSession current = session;
+        long events = current != null ? current.eventCount() : 0;
+        int retained = current != null ? current.records().size() : 0;
+        statsLabel.setText(String.format(texts.statsPattern(), eventsPerSecond, ByteSizes.format(bytesPerSecond), events, retained));
+    }
+
+    private void showSelectedRecord() {
+        StreamRecord record = recordList.getSelectedValue();
+        if (record == null) {
+            return;
+        }
+        String formatted = formatter.format(record.data());
+        detailViewer.setText(formatted != null ? formatted : record.data());
+    }
+
+    private class StreamRecordRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+            super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            if (value instanceof StreamRecord record) {
+                String data = record.data();
+                String preview = data.length() > PREVIEW_CHARS ? data.substring(0, PREVIEW_CHARS) + "…" : data;
+                StringBuilder text = new StringBuilder()
+                        .append('#').append(record.sequence()).append("  ")
+                        .append(timeFormat.format(new Date(record.timestampMillis()))).append("  ");
+                if (record.event() != null) {
+                    text.append('[').append(record.event()).append("]  ");
+                }
+                text.append(preview.replace('\n', ' '));
+                setText(text.toString());
+            }
+            return this;
+        }
+    }
+}
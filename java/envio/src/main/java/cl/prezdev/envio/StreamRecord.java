@@ -0,0 +1,4 @@
+package cl.prezdev.envio;
+
+public record StreamRecord(long sequence, long timestampMillis, String event, String data, int length) {
+}
@@ -0,0 +1,209 @@
+package cl.prezdev.envio;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StreamingSession {
+
+    private static final int MAX_RECORD_CHARS = 256 * 1024;
+
+    public interface Listener {
+        void onOpen(HttpResponse<?> response, boolean serverSentEvents);
+
+        void onClosed(Throwable error);
+    }
+
+    private final RecordRingBuffer<StreamRecord> records;
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong byteCount = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile boolean running;
+    private volatile InputStream bodyStream;
+    private Thread worker;
+
+    public StreamingSession(int retention) {
+        this.records = new RecordRingBuffer<>(retention);
+    }
+
+    void start(HttpClient httpClient, HttpRequest request, Listener listener) {
+        running = true;
+        worker = new Thread(() -> run(httpClient, request, listener), "envio-stream");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void cancel() {
+        cancelled = true;
+        InputStream stream = bodyStream;
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // The stream is being abandoned; a failed close changes nothing for the caller.
+            }
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public RecordRingBuffer<StreamRecord> records() {
+        return records;
+    }
+
+    public long eventCount() {
+        return eventCount.get();
+    }
+
+    public long byteCount() {
+        return byteCount.get();
+    }
+
+    private void run(HttpClient httpClient, HttpRequest request, Listener listener) {
+        Throwable failure = null;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            bodyStream = response.body();
+            boolean serverSentEvents = response.headers().firstValue("Content-Type")
+                    .map(value -> value.toLowerCase(Locale.ROOT).startsWith("text/event-stream"))
+                    .orElse(false);
+            listener.onOpen(response, serverSentEvents);
+            CapturingInputStream counting = new CapturingInputStream(response.body(), OutputStream.nullOutputStream());
+            try (BufferedReader input = new BufferedReader(new InputStreamReader(counting, StandardCharsets.UTF_8))) {
+                BoundedLineReader reader = new BoundedLineReader(input, MAX_RECORD_CHARS);
+                if (serverSentEvents) {
+                    readServerSentEvents(reader, counting);
+                } else {
+                    readLines(reader, counting);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (!cancelled) {
+                failure = ex;
+            }
+        } finally {
+            running = false;
+            listener.onClosed(failure);
+        }
+    }
+
+    private void readLines(BoundedLineReader reader, CapturingInputStream counting) throws IOException {
+        String line;
+        while (!cancelled && (line = reader.readLine()) != null) {
+            byteCount.set(counting.getBytesRead());
+            if (!line.isBlank()) {
+                publish(null, line, reader.lineLength());
+            }
+        }
+    }
+
+    private void readServerSentEvents(BoundedLineReader reader, CapturingInputStream counting) throws IOException {
+        String line;
+        String event = null;
+        StringBuilder data = new StringBuilder();
+        long dataLength = 0;
+        while (!cancelled && (line = reader.readLine()) != null) {
+            byteCount.set(counting.getBytesRead());
+            if (line.isEmpty()) {
+                if (dataLength > 0) {
+                    publish(event, data.toString(), dataLength);
+                }
+                event = null;
+                data.setLength(0);
+                dataLength = 0;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon >= 0 ? line.substring(0, colon) : line;
+            String value = colon >= 0 ? line.substring(colon + 1) : "";
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            if ("event".equals(field)) {
+                event = value;
+            } else if ("data".equals(field)) {
+                long valueLength = value.length() + reader.lineLength() - line.length();
+                if (dataLength > 0) {
+                    dataLength++;
+                    if (data.length() < MAX_RECORD_CHARS) {
+                        data.append('\n');
+                    }
+                }
+                dataLength += valueLength;
+                if (data.length() < MAX_RECORD_CHARS) {
+                    data.append(value, 0, Math.min(value.length(), MAX_RECORD_CHARS - data.length()));
+                }
+            }
+        }
+    }
+
+    // data holds at most MAX_RECORD_CHARS; length is what the server actually sent.
+    private void publish(String event, String data, long length) {
+        String retained = data.length() < length ? data + "…" : data;
+        long sequence = eventCount.incrementAndGet();
+        records.add(new StreamRecord(sequence, System.currentTimeMillis(), event, retained, (int) Math.min(length, Integer.MAX_VALUE)));
+    }
+
+    // BufferedReader.readLine() holds a whole line before any cap applies, so a record that never ends on a stream
+    // left open for minutes grows until the heap runs out. This keeps the first maxChars of each line and only
+    // counts the rest. Lines end at \n, \r or \r\n, as in readLine().
+    private static final class BoundedLineReader {
+        private final Reader reader;
+        private final int maxChars;
+        private final StringBuilder line = new StringBuilder();
+        private long lineLength;
+        private boolean skipLineFeed;
+
+        BoundedLineReader(Reader reader, int maxChars) {
+            this.reader = reader;
+            this.maxChars = maxChars;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            lineLength = 0;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = c == '\r';
+                    return line.toString();
+                }
+                lineLength++;
+                if (line.length() < maxChars) {
+                    line.append((char) c);
+                }
+            }
+            return lineLength > 0 ? line.toString() : null;
+        }
+
+        // Characters in the last line, including any that were not kept.
+        long lineLength() {
+            return lineLength;
+        }
+    }
+}
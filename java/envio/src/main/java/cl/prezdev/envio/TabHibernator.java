@@ -0,0 +1,170 @@
+package cl.prezdev.envio;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+// Moves a tab's response texts to a gzip temp file while the tab is in the background and reads them back when it
+// is shown again. The tab hands over a snapshot, drops its views once the file is written and redraws from the
+// snapshot that comes back. Anything that changes the response meanwhile (a new request, a restore) invalidates
+// the pending work; the tab signals that through its response version.
+final class TabHibernator {
+
+    private static final Path HIBERNATION_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "envio-tabs");
+
+    private final IntSupplier responseVersion;
+    private final Runnable release;
+    private final Consumer<ResponseSnapshot> apply;
+    private final Consumer<String> restoreFailed;
+    private final MetricsRegistry.Timer hibernateTimer;
+    private final MetricsRegistry.Timer restoreTimer;
+    private Path hibernatedResponse;
+    private SwingWorker<?, ?> worker;
+    private boolean restoring;
+    private int generation;
+
+    TabHibernator(IntSupplier responseVersion, Runnable release, Consumer<ResponseSnapshot> apply,
+                  Consumer<String> restoreFailed, MetricsRegistry metrics) {
+        this.responseVersion = responseVersion;
+        this.release = release;
+        this.apply = apply;
+        this.restoreFailed = restoreFailed;
+        this.hibernateTimer = metrics.timer("ui.tab.hibernate");
+        this.restoreTimer = metrics.timer("ui.tab.restore");
+    }
+
+    boolean isHibernated() {
+        return hibernatedResponse != null;
+    }
+
+    private boolean isBusy() {
+        return hibernatedResponse != null || worker != null;
+    }
+
+    long hibernatedBytes() {
+        try {
+            return hibernatedResponse != null ? Files.size(hibernatedResponse) : 0;
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    // Compresses the snapshot off the EDT, then lets the tab drop its document, tree and raw views.
+    boolean hibernate(ResponseSnapshot snapshot) {
+        if (isBusy()) {
+            return false;
+        }
+        int expectedGeneration = ++generation;
+        int version = responseVersion.getAsInt();
+        SwingWorker<Path, Void> hibernation = new SwingWorker<>() {
+            @Override
+            protected Path doInBackground() throws IOException {
+                MetricsRegistry.Sample sample = hibernateTimer.start();
+                try {
+                    return snapshot.write(HIBERNATION_DIRECTORY);
+                } finally {
+                    sample.stop();
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (worker == this) {
+                    worker = null;
+                }
+                Path file;
+                try {
+                    file = get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    System.err.println("No se pudo hibernar la pestaña: " + cause.getMessage());
+                    return;
+                }
+                if (expectedGeneration != generation || version != responseVersion.getAsInt()) {
+                    deleteQuietly(file);
+                    return;
+                }
+                hibernatedResponse = file;
+                release.run();
+            }
+        };
+        worker = hibernation;
+        hibernation.execute();
+        return true;
+    }
+
+    void restore() {
+        Path file = hibernatedResponse;
+        if (file == null) {
+            // Selecting the tab again while its restore runs must not call that restore off: the file is already
+            // gone, so its snapshot is the only copy. A hibernation still being written is cancelled.
+            if (worker != null && !restoring) {
+                generation++;
+            }
+            return;
+        }
+        generation++;
+        hibernatedResponse = null;
+        int expectedGeneration = generation;
+        int version = responseVersion.getAsInt();
+        SwingWorker<ResponseSnapshot, Void> restoration = new SwingWorker<>() {
+            @Override
+            protected ResponseSnapshot doInBackground() throws IOException {
+                try {
+                    return ResponseSnapshot.read(file);
+                } finally {
+                    deleteQuietly(file);
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (worker == this) {
+                    worker = null;
+                    restoring = false;
+                }
+                if (expectedGeneration != generation || version != responseVersion.getAsInt()) {
+                    return;
+                }
+                try {
+                    ResponseSnapshot snapshot = get();
+                    MetricsRegistry.Sample sample = restoreTimer.start();
+                    apply.accept(snapshot);
+                    sample.stop();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    restoreFailed.accept(cause.getMessage());
+                }
+            }
+        };
+        worker = restoration;
+        restoring = true;
+        restoration.execute();
+    }
+
+    // Drops the temp file and any work in flight; used when the tab closes.
+    void discard() {
+        generation++;
+        if (hibernatedResponse != null) {
+            deleteQuietly(hibernatedResponse);
+            hibernatedResponse = null;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            // Left for deleteOnExit.
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package cl.prezdev.envio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class Template {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, Template> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final String source;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private Template(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static Template compile(String source) {
+        String text = source != null ? source : "";
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        int literalStart = 0;
+        while (true) {
+            int open = text.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            String name = text.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty() || name.contains(OPEN)) {
+                position = open + 1;
+                continue;
+            }
+            literals.add(text.substring(literalStart, open));
+            variables.add(name);
+            position = close + CLOSE.length();
+            literalStart = position;
+        }
+        literals.add(text.substring(literalStart));
+        return new Template(text, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    // For short sources that are rendered often, such as URLs and form fields. Request bodies are compiled per send
+    // instead: the cache is keyed by the whole source, so it would keep up to CACHE_SIZE large bodies alive.
+    public static synchronized Template cached(String source) {
+        return CACHE.computeIfAbsent(source != null ? source : "", Template::compile);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    public Set<String> variables() {
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, variables);
+        return names;
+    }
+
+    public String render(Function<String, String> resolver) {
+        if (variables.length == 0) {
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(literalLength + variables.length * 16);
+        renderTo(builder, resolver);
+        return builder.toString();
+    }
+
+    public void renderTo(StringBuilder builder, Function<String, String> resolver) {
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]);
+            String value = resolver != null ? resolver.apply(variables[i]) : null;
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append(OPEN).append(variables[i]).append(CLOSE);
+            }
+        }
+        builder.append(literals[variables.length]);
+    }
+}
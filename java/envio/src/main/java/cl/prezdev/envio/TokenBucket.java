@@ -0,0 +1,71 @@
+package cl.prezdev.envio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public final class TokenBucket {
+
+    private final AtomicLong nextSlotNanos;
+    private volatile long intervalNanos;
+    private volatile long burstNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.nextSlotNanos = new AtomicLong(System.nanoTime());
+        setRate(permitsPerSecond, burst);
+    }
+
+    public void setRate(double permitsPerSecond, int burst) {
+        long interval = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.intervalNanos = interval;
+        this.burstNanos = interval * Math.max(0, burst - 1);
+    }
+
+    public boolean isUnlimited() {
+        return intervalNanos == 0;
+    }
+
+    public boolean tryAcquire() {
+        long interval = intervalNanos;
+        if (interval == 0) {
+            return true;
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextSlotNanos.get();
+            long slot = Math.max(next, now - burstNanos);
+            if (slot > now) {
+                return false;
+            }
+            if (nextSlotNanos.compareAndSet(next, slot + interval)) {
+                return true;
+            }
+        }
+    }
+
+    public long reserveNanos() {
+        long interval = intervalNanos;
+        if (interval == 0) {
+            return 0;
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextSlotNanos.get();
+            long slot = Math.max(next, now - burstNanos);
+            if (nextSlotNanos.compareAndSet(next, slot + interval)) {
+                return Math.max(0, slot - now);
+            }
+        }
+    }
+
+    public void acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + reserveNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package cl.prezdev.envio;
+
+public final class WebSocketMessage {
+
+    public enum Direction {
+        INBOUND,
+        OUTBOUND
+    }
+
+    private final long sequence;
+    private final long timestampMillis;
+    private final Direction direction;
+    private final String data;
+    private volatile String formatted;
+
+    public WebSocketMessage(long sequence, long timestampMillis, Direction direction, String data) {
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.direction = direction;
+        this.data = data;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    public Direction direction() {
+        return direction;
+    }
+
+    public String data() {
+        return data;
+    }
+
+    public String formatted() {
+        return formatted;
+    }
+
+    void setFormatted(String formatted) {
+        this.formatted = formatted;
+    }
+}
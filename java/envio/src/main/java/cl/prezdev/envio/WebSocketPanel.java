@@ -0,0 +1,288 @@
+package cl.prezdev.envio;
+
+import cl.prezdev.envio.I18n.WebSocketTexts;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.net.URISyntaxException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.function.Supplier;
+
+public class WebSocketPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 16;
+    private static final int RATE_WINDOW_MS = 1000;
+    private static final int PREVIEW_CHARS = 300;
+
+    private final HttpClientService httpClientService;
+    private final Supplier<String> defaultUrlSupplier;
+    private final int retention;
+    private final RingBufferListModel<WebSocketMessage> listModel = new RingBufferListModel<>();
+    private final JList<WebSocketMessage> messageList = new JList<>(listModel);
+    private final LargeTextViewer detailViewer;
+    private final JTextField urlField = new JTextField(30);
+    private final JButton connectButton = new JButton();
+    private final JCheckBox formatJsonCheckBox = new JCheckBox();
+    private final JCheckBox followCheckBox = new JCheckBox();
+    private final JTextArea messageArea = new JTextArea(3, 40);
+    private final JButton sendButton = new JButton();
+    private final JLabel statsLabel = new JLabel(" ");
+    private final JLabel statusLabel = new JLabel(" ");
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+    private final Timer refreshTimer;
+    private WebSocketSession session;
+    private WebSocketTexts texts;
+    private long rateWindowStart = System.nanoTime();
+    private long rateWindowMessages;
+    private long rateWindowChars;
+    private double messagesPerSecond;
+    private double charsPerSecond;
+
+    public WebSocketPanel(HttpClientService httpClientService, Supplier<String> defaultUrlSupplier,
+                          LargeTextViewer detailViewer, int retention, Language language) {
+        this.httpClientService = httpClientService;
+        this.defaultUrlSupplier = defaultUrlSupplier;
+        this.detailViewer = detailViewer;
+        this.retention = retention;
+        this.texts = I18n.webSocket(language);
+
+        setLayout(new BorderLayout(8, 8));
+        setBorder(new EmptyBorder(8, 8, 8, 8));
+
+        messageList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        messageList.setPrototypeCellValue(new WebSocketMessage(0, 0, WebSocketMessage.Direction.INBOUND, "x".repeat(80)));
+        messageList.setCellRenderer(new WebSocketMessageRenderer());
+        messageList.addListSelectionListener(event -> {
+            if (!event.getValueIsAdjusting()) {
+                showSelectedMessage();
+            }
+        });
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(messageList), new JScrollPane(detailViewer));
+        split.setResizeWeight(0.6);
+        split.setContinuousLayout(true);
+        add(split, BorderLayout.CENTER);
+
+        urlField.setText(toWebSocketUrl(defaultUrlSupplier.get()));
+        urlField.addActionListener(e -> toggleConnection());
+        connectButton.addActionListener(e -> toggleConnection());
+        formatJsonCheckBox.setSelected(true);
+        formatJsonCheckBox.addActionListener(e -> {
+            if (session != null) {
+                session.setFormatJson(formatJsonCheckBox.isSelected());
+            }
+        });
+        followCheckBox.setSelected(true);
+
+        JPanel connectionPanel = new JPanel(new BorderLayout(8, 0));
+        connectionPanel.add(urlField, BorderLayout.CENTER);
+        JPanel connectionControls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        connectionControls.add(formatJsonCheckBox);
+        connectionControls.add(followCheckBox);
+        connectionControls.add(connectButton);
+        connectionPanel.add(connectionControls, BorderLayout.EAST);
+
+        JPanel statsPanel = new JPanel(new BorderLayout(8, 0));
+        statsPanel.add(statsLabel, BorderLayout.WEST);
+        statsPanel.add(statusLabel, BorderLayout.EAST);
+
+        JPanel north = new JPanel(new BorderLayout(0, 4));
+        north.add(connectionPanel, BorderLayout.NORTH);
+        north.add(statsPanel, BorderLayout.SOUTH);
+        add(north, BorderLayout.NORTH);
+
+        messageArea.setLineWrap(true);
+        messageArea.setWrapStyleWord(true);
+        sendButton.setEnabled(false);
+        sendButton.addActionListener(e -> sendMessage());
+        JPanel sendPanel = new JPanel(new BorderLayout(8, 0));
+        sendPanel.add(new JScrollPane(messageArea), BorderLayout.CENTER);
+        sendPanel.add(sendButton, BorderLayout.EAST);
+        add(sendPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+        refreshTimer.start();
+        setLanguage(language);
+    }
+
+    public void setLanguage(Language language) {
+        texts = I18n.webSocket(language);
+        connectButton.setText(isConnected() ? texts.disconnectButton() : texts.connectButton());
+        sendButton.setText(texts.sendButton());
+        formatJsonCheckBox.setText(texts.formatJsonCheckbox());
+        followCheckBox.setText(texts.followCheckbox());
+        updateStats();
+    }
+
+    public void disconnect() {
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    public void dispose() {
+        disconnect();
+        refreshTimer.stop();
+    }
+
+    private boolean isConnected() {
+        return session != null && session.isOpen();
+    }
+
+    private void toggleConnection() {
+        if (isConnected()) {
+            disconnect();
+            return;
+        }
+        String url = urlField.getText().trim();
+        if (url.isEmpty()) {
+            url = toWebSocketUrl(defaultUrlSupplier.get());
+            urlField.setText(url);
+        }
+        try {
+            connectButton.setEnabled(false);
+            statusLabel.setText(texts.statusConnecting());
+            session = httpClientService.openWebSocket(url, retention, formatJsonCheckBox.isSelected(), new SessionListener());
+            resetRates();
+            listModel.setBuffer(session.messages());
+            detailViewer.setText("");
+            updateStats();
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            connectButton.setEnabled(true);
+            statusLabel.setText(String.format(texts.statusErrorPattern(), ex.getMessage()));
+        }
+    }
+
+    private void sendMessage() {
+        WebSocketSession current = session;
+        String text = messageArea.getText();
+        if (current == null || text.isEmpty()) {
+            return;
+        }
+        current.send(text).whenComplete((socket, error) -> {
+            if (error != null) {
+                SwingUtilities.invokeLater(() -> statusLabel.setText(String.format(texts.statusErrorPattern(), describe(error))));
+            }
+        });
+    }
+
+    private void resetRates() {
+        rateWindowStart = System.nanoTime();
+        rateWindowMessages = 0;
+        rateWindowChars = 0;
+        messagesPerSecond = 0;
+        charsPerSecond = 0;
+    }
+
+    private void refresh() {
+        WebSocketSession current = session;
+        if (current == null || !isShowing()) {
+            return;
+        }
+        if (listModel.refresh() && followCheckBox.isSelected() && listModel.getSize() > 0) {
+            messageList.ensureIndexIsVisible(listModel.getSize() - 1);
+        }
+        long now = System.nanoTime();
+        long elapsedMillis = (now - rateWindowStart) / 1_000_000;
+        if (elapsedMillis >= RATE_WINDOW_MS) {
+            long messages = current.receivedCount();
+            long chars = current.receivedChars();
+            messagesPerSecond = (messages - rateWindowMessages) * 1000.0 / elapsedMillis;
+            charsPerSecond = (chars - rateWindowChars) * 1000.0 / elapsedMillis;
+            rateWindowMessages = messages;
+            rateWindowChars = chars;
+            rateWindowStart = now;
+            updateStats();
+        }
+    }
+
+    private void updateStats() {
+        WebSocketSession current = session;
+        long received = current != null ? current.receivedCount() : 0;
+        long sent = current != null ? current.sentCount() : 0;
+        int retained = current != null ? current.messages().size() : 0;
+        statsLabel.setText(String.format(texts.statsPattern(), messagesPerSecond, ByteSizes.format(charsPerSecond), received, sent, retained));
+    }
+
+    private void showSelectedMessage() {
+        WebSocketMessage message = messageList.getSelectedValue();
+        if (message == null) {
+            return;
+        }
+        String formatted = message.formatted();
+        detailViewer.setText(formatted != null ? formatted : message.data());
+    }
+
+    private static String toWebSocketUrl(String url) {
+        if (url == null) {
+            return "";
+        }
+        String trimmed = url.trim();
+        if (trimmed.startsWith("https://")) {
+            return "wss://" + trimmed.substring("https://".length());
+        }
+        if (trimmed.startsWith("http://")) {
+            return "ws://" + trimmed.substring("http://".length());
+        }
+        return trimmed;
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private class SessionListener implements WebSocketSession.Listener {
+        @Override
+        public void onOpen() {
+            SwingUtilities.invokeLater(() -> {
+                connectButton.setEnabled(true);
+                connectButton.setText(texts.disconnectButton());
+                sendButton.setEnabled(true);
+                statusLabel.setText(texts.statusConnected());
+            });
+        }
+
+        @Override
+        public void onClosed(int statusCode, String reason) {
+            SwingUtilities.invokeLater(() -> {
+                connectionEnded();
+                statusLabel.setText(String.format(texts.statusClosedPattern(), statusCode, reason != null ? reason : ""));
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            SwingUtilities.invokeLater(() -> {
+                connectionEnded();
+                statusLabel.setText(String.format(texts.statusErrorPattern(), describe(error)));
+            });
+        }
+
+        private void connectionEnded() {
+            connectButton.setEnabled(true);
+            connectButton.setText(texts.connectButton());
+            sendButton.setEnabled(false);
+            listModel.refresh();
+            updateStats();
+        }
+    }
+
+    private class WebSocketMessageRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+            super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            if (value instanceof WebSocketMessage message) {
+                String data = message.data();
+                String preview = data.length() > PREVIEW_CHARS ? data.substring(0, PREVIEW_CHARS) + "…" : data;
+                setText('#' + String.valueOf(message.sequence()) + "  "
+                        + timeFormat.format(new Date(message.timestampMillis())) + "  "
+                        + (message.direction() == WebSocketMessage.Direction.INBOUND ? "← " : "→ ")
+                        + preview.replace('\n', ' '));
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package cl.prezdev.envio;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WebSocketSession {
+
+    private static final int REQUEST_BATCH = 256;
+    private static final int MAX_FORMAT_BACKLOG = 1024;
+    private static final int MAX_MESSAGE_CHARS = 256 * 1024;
+
+    public interface Listener {
+        void onOpen();
+
+        void onClosed(int statusCode, String reason);
+
+        void onError(Throwable error);
+    }
+
+    private final RecordRingBuffer<WebSocketMessage> messages;
+    private final JsonStreamFormatter formatter;
+    private final ExecutorService formatPool;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong receivedChars = new AtomicLong();
+    private final AtomicInteger formatBacklog = new AtomicInteger();
+    private final StringBuilder partialText = new StringBuilder();
+    private long partialBinaryBytes;
+    private volatile boolean formatJson;
+    private volatile boolean open;
+    private volatile WebSocket webSocket;
+    private CompletableFuture<WebSocket> sendChain = CompletableFuture.completedFuture(null);
+    private long outstandingDemand;
+
+    public WebSocketSession(int retention, JsonStreamFormatter formatter, boolean formatJson) {
+        this.messages = new RecordRingBuffer<>(retention);
+        this.formatter = formatter;
+        this.formatJson = formatJson;
+        this.formatPool = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "envio-ws-format");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    CompletableFuture<WebSocket> connect(HttpClient httpClient, URI uri, Listener listener) {
+        return httpClient.newWebSocketBuilder()
+                .buildAsync(uri, new SocketListener(listener))
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        formatPool.shutdownNow();
+                        listener.onError(error);
+                    }
+                });
+    }
+
+    public synchronized CompletableFuture<WebSocket> send(String text) {
+        WebSocket socket = webSocket;
+        if (socket == null || !open) {
+            return CompletableFuture.failedFuture(new IllegalStateException("WebSocket cerrado"));
+        }
+        sendChain = sendChain.handle((ignored, error) -> null)
+                .thenCompose(ignored -> socket.sendText(text, true))
+                .thenApply(result -> {
+                    sentCount.incrementAndGet();
+                    store(WebSocketMessage.Direction.OUTBOUND, text);
+                    return result;
+                });
+        return sendChain;
+    }
+
+    public void close() {
+        WebSocket socket = webSocket;
+        if (socket != null && open) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(error -> {
+                socket.abort();
+                return null;
+            });
+        }
+        formatPool.shutdown();
+    }
+
+    public void setFormatJson(boolean formatJson) {
+        this.formatJson = formatJson;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public RecordRingBuffer<WebSocketMessage> messages() {
+        return messages;
+    }
+
+    public long receivedCount() {
+        return receivedCount.get();
+    }
+
+    public long sentCount() {
+        return sentCount.get();
+    }
+
+    public long receivedChars() {
+        return receivedChars.get();
+    }
+
+    private WebSocketMessage store(WebSocketMessage.Direction direction, String data) {
+        String retained = data.length() > MAX_MESSAGE_CHARS ? data.substring(0, MAX_MESSAGE_CHARS) + "…" : data;
+        WebSocketMessage message = new WebSocketMessage(sequence.incrementAndGet(), System.currentTimeMillis(), direction, retained);
+        messages.add(message);
+        return message;
+    }
+
+    private void messageCompleted(String data) {
+        receivedCount.incrementAndGet();
+        receivedChars.addAndGet(data.length());
+        WebSocketMessage message = store(WebSocketMessage.Direction.INBOUND, data);
+        if (!formatJson || formatPool.isShutdown()) {
+            return;
+        }
+        formatBacklog.incrementAndGet();
+        try {
+            formatPool.execute(() -> {
+                try {
+                    message.setFormatted(formatter.format(message.data()));
+                } finally {
+                    formatBacklog.decrementAndGet();
+                    replenishDemand();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            formatBacklog.decrementAndGet();
+        }
+    }
+
+    private synchronized void consumedOne() {
+        outstandingDemand--;
+    }
+
+    private synchronized void replenishDemand() {
+        WebSocket socket = webSocket;
+        if (socket == null || !open || outstandingDemand > REQUEST_BATCH / 2 || formatBacklog.get() >= MAX_FORMAT_BACKLOG) {
+            return;
+        }
+        long missing = REQUEST_BATCH - outstandingDemand;
+        outstandingDemand += missing;
+        socket.request(missing);
+    }
+
+    private class SocketListener implements WebSocket.Listener {
+        private final Listener listener;
+
+        SocketListener(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onOpen(WebSocket socket) {
+            webSocket = socket;
+            open = true;
+            listener.onOpen();
+            replenishDemand();
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            consumedOne();
+            if (partialText.length() < MAX_MESSAGE_CHARS) {
+                partialText.append(data);
+            }
+            if (last) {
+                String text = partialText.toString();
+                partialText.setLength(0);
+                messageCompleted(text);
+            }
+            replenishDemand();
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket socket, ByteBuffer data, boolean last) {
+            consumedOne();
+            partialBinaryBytes += data.remaining();
+            if (last) {
+                long bytes = partialBinaryBytes;
+                partialBinaryBytes = 0;
+                messageCompleted("[binary " + bytes + " bytes]");
+            }
+            replenishDemand();
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onPing(WebSocket socket, ByteBuffer message) {
+            consumedOne();
+            replenishDemand();
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onPong(WebSocket socket, ByteBuffer message) {
+            consumedOne();
+            replenishDemand();
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            open = false;
+            formatPool.shutdown();
+            listener.onClosed(statusCode, reason);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            open = false;
+            formatPool.shutdown();
+            listener.onError(error);
+        }
+    }
+}